@@ -1,13 +1,15 @@
 package scheduling;
 
-import scheduling.pojo.Match;
+import scheduling.constraint.ConstraintStatistics;
+import scheduling.constraint.FitnessEvaluator;
 import scheduling.pojo.Schedule;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * This class executes various process during evolution such as evolve, crossover and mutation
@@ -20,111 +22,239 @@ import java.util.concurrent.ExecutionException;
 class Algorithm {
 
     /**
-     * A constant variable that defines the rate at which the crossover happens
+     * The parameters of the run, defining the rates of the genetic operators and how the parents are selected
      */
-    private static final double CROSSOVER_RATE = Driver.CROSSOVER_RATE;
+    private final SolverConfig config;
 
     /**
-     * A constant variable that defines the probability of Mutation
+     * The problem instance over which the algorithm is run
      */
-    private static final double MUTATION_RATE = Driver.MUTATION_RATE;
+    private ProblemInstance problem;
 
     /**
-     * A constant variable that defines the size of the Tournament
+     * Number of fitness evaluations performed by the last call to {@link #evolve(Population)}
      */
-    private static final int TOURNAMENT_SIZE = Driver.TOURNAMENT_SELECTION_SIZE;
+    private int evaluations;
 
     /**
-     * A variable to hold the data set
+     * Number of children produced by one task of the pool. Kept independent of the number of threads, so that a
+     * seeded run gives the same results whatever the size of the pool.
      */
-    private Data data;
+    static final int CHUNK_SIZE = 64;
+
+    /**
+     * The pool on which the offspring of a generation are produced
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Source of random numbers from which the stream of every generation is split
+     */
+    private RandomSource random;
+
+    /**
+     * Statistics of the constraints of the run the offspring are evaluated for, null if they are not recorded
+     */
+    private final ConstraintStatistics statistics;
 
     /**
      * Parameterized constructor for creating an instance for the scheduling.Algorithm class
      *
-     * @param data The data set over which the algorithm is going to be run
+     * @param problem The problem instance over which the algorithm is going to be run
+     * @param config  The parameters of the run
+     * @param pool    The pool on which the offspring are produced and evaluated
+     * @param random  Source of random numbers of the run
      */
-    Algorithm(Data data) {
-        this.data = data;
-        this.data.initializeData();
+    Algorithm(ProblemInstance problem, SolverConfig config, ForkJoinPool pool, RandomSource random) {
+        this(problem, config, pool, random, null);
     }
 
     /**
-     * This function performs the evolution on a selected population
+     * Parameterized constructor for creating an instance for the scheduling.Algorithm class recording the evaluations
+     * of the offspring into the statistics of a run
      *
-     * @param pop The population over which evolution has to be done
-     * @return The evolved population
+     * @param problem    The problem instance over which the algorithm is going to be run
+     * @param config     The parameters of the run
+     * @param pool       The pool on which the offspring are produced and evaluated
+     * @param random     Source of random numbers of the run
+     * @param statistics Statistics of the constraints of the run, null if they are not recorded
      */
-    Population evolve(Population pop) {
-        pop.sortByFitness();
-        Population newPopulation = new Population(pop.size(), data, false);
-        while (newPopulation.size() < pop.size()) {
-            Schedule s1 = parentSelection(pop);
-            Schedule s2 = parentSelection(pop);
-            List<Schedule> children = crossover(s1, s2);
-            newPopulation.getSchedules().addAll(children);
-        }
-        for (Schedule s : newPopulation.getSchedules()) {
-            mutation(s);
-            s.sortMatchesByDate();
+    Algorithm(ProblemInstance problem, SolverConfig config, ForkJoinPool pool, RandomSource random,
+              ConstraintStatistics statistics) {
+        this.problem = problem;
+        this.config = config;
+        this.pool = pool;
+        this.random = random;
+        this.statistics = statistics;
+    }
+
+    /**
+     * This function performs the evolution on a selected population. The next generation is written into the slots
+     * of another population of the same size, so that two populations can be used in turn for the whole run.
+     *
+     * @param pop  The population over which evolution has to be done
+     * @param next The population whose schedules are replaced by the next generation
+     * @return The evolved population, i.e. {@code next}
+     */
+    Population evolve(Population pop, Population next) {
+        if (next.size() != pop.size())
+            throw new IllegalArgumentException("The next generation must have the size of the population");
+        // Only the candidates for selection need an exact rank. The survivors are only separated from the schedules
+        // they replace, which in steady-state mode is most of the population, and the rest is never sorted.
+        int survivors = config.getReplacement().survivors(pop.size());
+        int candidates = Selection.candidates(pop.size(), config.getCullingRate());
+        Ranking ranking = pop.rankTop(candidates, survivors);
+        Selection selection = new Selection(ranking, config.getSelectionMethod(), config.getTournamentSize(),
+                candidates);
+
+        // The best schedules survive unchanged, only the children replacing the others are evaluated
+        for (int i = 0; i < survivors; i++)
+            next.set(i, ranking.get(i));
+
+        // An island already running on a worker of the pool forks the chunks onto the queue of its worker and helps
+        // to run them while joining, instead of submitting them from outside and blocking the worker until they end
+        Breed breed = new Breed(pop, selection, next, survivors, next.size(), random.split());
+        evaluations = ForkJoinTask.getPool() == pool ? breed.invoke() : pool.invoke(breed);
+        return next;
+    }
+
+    /**
+     * This function produces the offspring at the positions {@code from} to {@code to} of the next generation.
+     * Each pair of parents selected gives two children, which are mutated and evaluated.
+     *
+     * @param pop       The population from which the parents are selected
+     * @param selection The selection built for the population
+     * @param offspring The next generation
+     * @param from      Starting index of the children to be produced
+     * @param to        Ending index of the children to be produced
+     * @param random    Source of random numbers of the calling thread
+     * @return Number of fitness evaluations performed
+     */
+    private int breed(Population pop, Selection selection, Population offspring, int from, int to, RandomSource random) {
+        int[] parents = new int[(to - from + 1) & ~1];
+        selection.select(parents, random);
+
+        // The thread may be shared with other runs, their statistics are restored afterwards
+        FitnessEvaluator evaluator = FitnessEvaluator.forCurrentThread();
+        ConstraintStatistics previous = evaluator.getStatistics();
+        evaluator.setStatistics(statistics);
+        int evaluations = 0;
+        try {
+            for (int i = from; i < to; i += 2) {
+                Schedule s1 = pop.get(parents[i - from]);
+                Schedule s2 = pop.get(parents[i - from + 1]);
+                List<Schedule> children = crossover(s1, s2, random);
+                for (int j = 0; j < children.size() && i + j < to; j++) {
+                    Schedule child = children.get(j);
+                    mutation(child, random);
+                    if (child.evaluate())
+                        evaluations++;
+                    offspring.set(i + j, child);
+                }
+            }
+        } finally {
+            evaluator.setStatistics(previous);
         }
-        return newPopulation;
+        return evaluations;
+    }
+
+    /**
+     * Getter method for {@code evaluations}
+     *
+     * @return Number of fitness evaluations performed by the last generation
+     */
+    int getEvaluations() {
+        return evaluations;
     }
 
     /**
      * This function performs crossover operation.
      *
      * @param s1 The first parent solution set
-     * @param s2 The second parent solution set
+     * @param s2     The second parent solution set
+     * @param random Source of random numbers of the calling thread
      * @return The next generation solution set
      */
-    private List<Schedule> crossover(Schedule s1, Schedule s2) {
-        Schedule newSol = new Schedule(data);
-        Schedule newSol2 = new Schedule(data);
-        // Loop through genes
-        int crossoverPoint = (int) (Math.random() * s1.size());
-        for (int i = 0; i < s1.size(); i++) {
-            if (i <= crossoverPoint) {
-                newSol.getMatchList().set(i, s2.getMatchList().get(i));
-                newSol2.getMatchList().set(i, s1.getMatchList().get(i));
-            } else {
-                newSol.getMatchList().set(i, s1.getMatchList().get(i));
-                newSol2.getMatchList().set(i, s2.getMatchList().get(i));
-            }
-        }
-        return new ArrayList<>(Arrays.asList(newSol, newSol2));
+    private List<Schedule> crossover(Schedule s1, Schedule s2, RandomSource random) {
+        int[] genes1 = s1.getGenes();
+        int[] genes2 = s2.getGenes();
+        int[] newGenes = new int[genes1.length];
+        int[] newGenes2 = new int[genes1.length];
+        // Genes up to the crossover point are swapped, the rest are copied over
+        int crossoverPoint = random.nextInt(s1.size());
+        System.arraycopy(genes2, 0, newGenes, 0, crossoverPoint + 1);
+        System.arraycopy(genes1, 0, newGenes2, 0, crossoverPoint + 1);
+        System.arraycopy(genes1, crossoverPoint + 1, newGenes, crossoverPoint + 1, genes1.length - crossoverPoint - 1);
+        System.arraycopy(genes2, crossoverPoint + 1, newGenes2, crossoverPoint + 1, genes1.length - crossoverPoint - 1);
+        return new ArrayList<>(Arrays.asList(new Schedule(problem, newGenes), new Schedule(problem, newGenes2)));
     }
 
     /**
      * This function mutates the chromosome (A single solution set)
      *
-     * @param s1 The solution set that has to be mutated
+     * @param s1     The solution set that has to be mutated
+     * @param random Source of random numbers of the calling thread
      */
-    private void mutation(Schedule s1) {
-        Schedule tempSchedule = new Schedule(data);
+    private void mutation(Schedule s1, RandomSource random) {
+        double mutationRate = config.getMutationRate();
         for (int i = 0; i < s1.size(); i++) {
-            if (Math.random() <= MUTATION_RATE) {
+            if (random.nextDouble() <= mutationRate) {
                 // Create random gene
-                Match fix = tempSchedule.getMatchList().get(i);
-                s1.getMatchList().set(i, fix);
+                s1.setGene(i, problem.randomGene(random));
             }
         }
     }
 
     /**
-     * This function selects the population which are fit for the next iteration
-     *
-     * @param pop The population in which the good fits has to be found
-     * @return The fittest solution
+     * Fork/join task producing a range of the next generation. The range is split in halves until it is not larger
+     * than {@link #CHUNK_SIZE}, so every worker of the pool gets a few chunks to work on.
      */
-    private Schedule parentSelection(Population pop) {
-        Population tournament = new Population(TOURNAMENT_SIZE, data, false);
-        // For each place in the tournament get a random individual
-        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
-            int randomId = (int) (Math.random() * pop.size() * Driver.CULLING_RATE);
-            tournament.getSchedules().add(pop.getSchedules().get(randomId));
+    private class Breed extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final Population pop;
+        private final Selection selection;
+        private final Population offspring;
+        private final int from;
+        private final int to;
+        private final RandomSource random;
+
+        /**
+         * Creates a task for the children at the positions {@code from} to {@code to}
+         *
+         * @param pop       The population from which the parents are selected
+         * @param selection The selection built for the population
+         * @param offspring The next generation
+         * @param from      Starting index of the children to be produced
+         * @param to        Ending index of the children to be produced
+         * @param random    Source of random numbers owned by this task
+         */
+        private Breed(Population pop, Selection selection, Population offspring, int from, int to, RandomSource random) {
+            this.pop = pop;
+            this.selection = selection;
+            this.offspring = offspring;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        /**
+         * Produces the children of this range, splitting it first if it is too large
+         *
+         * @return Number of fitness evaluations performed
+         */
+        @Override
+        protected Integer compute() {
+            if (to - from <= CHUNK_SIZE)
+                return breed(pop, selection, offspring, from, to, random);
+
+            // Splitting at an even index so that both children of a crossover stay in the same chunk.
+            // The left half gets a stream split from this one, so the streams do not depend on the thread running them.
+            int mid = from + (((to - from) / 2) & ~1);
+            Breed left = new Breed(pop, selection, offspring, from, mid, random.split());
+            left.fork();
+            int right = new Breed(pop, selection, offspring, mid, to, random).compute();
+            return left.join() + right;
         }
-        // Get the fittest
-        return tournament.getFittest();
     }
 }
@@ -0,0 +1,795 @@
+package scheduling;
+
+import org.apache.log4j.BasicConfigurator;
+import org.apache.log4j.Logger;
+import scheduling.constraint.BatchEvaluator;
+import scheduling.constraint.IncrementalEvaluator;
+import scheduling.pojo.Location;
+import scheduling.pojo.Schedule;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmarks for measuring the performance of the algorithm. The benchmark to run is passed as the first argument.
+ * - evolve [populationSize] [generations]: Offspring produced per second for an increasing number of threads
+ * - selection [populationSize] [parents]: Time and bytes allocated per parent for each selection method
+ * - replacement [teams] [populationSize] [evaluations]: Best violations reached by each replacement strategy with
+ *   the same budget of fitness evaluations
+ * - concurrent [solves] [populationSize] [generations]: Throughput of independent solves run one after the other and
+ *   all at once on a shared pool
+ * - footprint [teams] [populationSize] [evaluations]: Heap retained per evaluated schedule and bytes allocated per
+ *   fitness evaluation
+ * - delta [teams] [moves]: Time per single-gene move evaluated in full and incrementally, and per mutated child
+ * - batch [teams] [populationSize]: Fitness evaluations per second one schedule at a time and in batch over columns
+ * - offheap [teams] [maxPopulationSize] [generations]: Time, GC time and memory of generations run on the heap and
+ *   off the heap, for populations of 10000 schedules and 10 times more up to the maximum
+ * - scaling [maxTeams] [populationSize] [generations]: Time per generation and best violations of a solve of
+ *   synthetic tournaments of 4, 8, 16, ... teams up to the maximum
+ * - load [venues] [days] [revisions]: Time, heap retained and bytes allocated by loading a forecast file of
+ *   venues x days x revisions rows, streamed into the weather matrix and read into the weather map
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class Benchmark {
+
+    /**
+     * Logger object
+     */
+    private static final Logger log = Logger.getLogger(Benchmark.class);
+
+    /**
+     * Number of generations run before measuring, so that the code is compiled by the JIT
+     */
+    private static final int WARM_UP_GENERATIONS = 3;
+
+    /**
+     * Seed of every benchmark run, so that all runs work on the same data and populations
+     */
+    private static final long SEED = 6205;
+
+    /**
+     * Parameters of the algorithm, the defaults of the project
+     */
+    private static final SolverConfig CONFIG = new SolverConfig();
+
+    /**
+     * Main function of the benchmark class
+     *
+     * @param args Name of the benchmark followed by its parameters
+     */
+    public static void main(String[] args) {
+        BasicConfigurator.configure();
+
+        String benchmark = args.length > 0 ? args[0] : "evolve";
+        switch (benchmark) {
+            case "evolve":
+                evolve(intArgument(args, 1, 5000), intArgument(args, 2, 20));
+                break;
+            case "selection":
+                selection(intArgument(args, 1, 5000), intArgument(args, 2, 1000000));
+                break;
+            case "replacement":
+                replacement(intArgument(args, 1, 16), intArgument(args, 2, 500), intArgument(args, 3, 500000));
+                break;
+            case "concurrent":
+                concurrent(intArgument(args, 1, 24), intArgument(args, 2, 1000), intArgument(args, 3, 50));
+                break;
+            case "footprint":
+                footprint(intArgument(args, 1, 16), intArgument(args, 2, 5000), intArgument(args, 3, 200000));
+                break;
+            case "delta":
+                delta(intArgument(args, 1, 32), intArgument(args, 2, 200000));
+                break;
+            case "batch":
+                batch(intArgument(args, 1, 16), intArgument(args, 2, 50000));
+                break;
+            case "offheap":
+                offHeap(intArgument(args, 1, 8), intArgument(args, 2, 1000000), intArgument(args, 3, 3));
+                break;
+            case "scaling":
+                scaling(intArgument(args, 1, 64), intArgument(args, 2, 1000), intArgument(args, 3, 20));
+                break;
+            case "load":
+                try {
+                    load(intArgument(args, 1, 250), intArgument(args, 2, 180), intArgument(args, 3, 60));
+                } catch (IOException ex) {
+                    log.error("Exception happened when writing or loading the data files: " + ex.getMessage());
+                }
+                break;
+            default:
+                log.info("Unknown benchmark: " + benchmark);
+        }
+    }
+
+    /**
+     * Measures the number of offspring produced per second by {@link Algorithm#evolve(Population, Population)} with 1, 2, 4, ...
+     * threads, up to the number of available processors
+     *
+     * @param populationSize Size of the population
+     * @param generations    Number of generations measured for each number of threads
+     */
+    private static void evolve(int populationSize, int generations) {
+        Data data = new Data(new RandomSource(SEED));
+        int processors = Runtime.getRuntime().availableProcessors();
+        log.info("Processors = " + processors);
+        double single = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            RandomSource random = new RandomSource(SEED);
+            Algorithm algorithm = new Algorithm(data.getInstance(), CONFIG, pool, random.split());
+            Population population = new Population(populationSize, data, random);
+            Population spare = new Population(new Schedule[populationSize]);
+            population.evaluate();
+
+            for (int i = 0; i < WARM_UP_GENERATIONS; i++) {
+                Population next = algorithm.evolve(population, spare);
+                spare = population;
+                population = next;
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < generations; i++) {
+                Population next = algorithm.evolve(population, spare);
+                spare = population;
+                population = next;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            pool.shutdown();
+
+            double throughput = (double) populationSize * generations / seconds;
+            if (threads == 1)
+                single = throughput;
+            log.info(String.format("Threads = %-3d Offspring/s = %-12.0f Speedup = %.2f", threads, throughput, throughput / single));
+            if (threads == processors)
+                break;
+        }
+    }
+
+    /**
+     * Measures the time and the memory allocated for selecting parents, with each selection method and with a
+     * tournament which copies the competitors into a new population, as done before the selection worked on indices
+     *
+     * @param populationSize Size of the population
+     * @param parents        Number of parents selected with each method
+     */
+    private static void selection(int populationSize, int parents) {
+        RandomSource random = new RandomSource(SEED);
+        Data data = new Data(random.split());
+        Population population = new Population(populationSize, data, random);
+
+        for (int round = 0; round < 2; round++) {
+            // The first round only warms up the JIT
+            boolean report = round == 1;
+
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < parents; i++) {
+                Population tournament = new Population(CONFIG.getTournamentSize(), data, false);
+                for (int j = 0; j < CONFIG.getTournamentSize(); j++)
+                    tournament.addSchedule(population.get(random.nextInt(populationSize / 2)));
+                tournament.getFittest();
+            }
+            if (report)
+                logSelection("Tournament (copying)", parents, System.nanoTime() - start, allocatedBytes() - bytes);
+
+            int[] selected = new int[2 * Algorithm.CHUNK_SIZE];
+            for (SelectionMethod method : SelectionMethod.values()) {
+                bytes = allocatedBytes();
+                start = System.nanoTime();
+                int candidates = Selection.candidates(populationSize, CONFIG.getCullingRate());
+                Selection selection = new Selection(population.rankTop(candidates), method, CONFIG.getTournamentSize(),
+                        candidates);
+                for (int i = 0; i < parents; i += selected.length)
+                    selection.select(selected, random);
+                if (report)
+                    logSelection(method.toString(), parents, System.nanoTime() - start, allocatedBytes() - bytes);
+            }
+        }
+    }
+
+    /**
+     * Runs each replacement strategy from the same initial population until the same number of fitness evaluations
+     * have been performed, and reports the best number of violations reached halfway and at the end
+     *
+     * @param teams          Number of teams of the tournament
+     * @param populationSize Size of the population
+     * @param budget         Number of fitness evaluations allowed for each strategy
+     */
+    private static void replacement(int teams, int populationSize, int budget) {
+        Data data = tournament(teams);
+        ReplacementStrategy[] strategies = {
+                new ReplacementStrategy(ReplacementStrategy.Mode.GENERATIONAL, 0),
+                new ReplacementStrategy(ReplacementStrategy.Mode.ELITIST, populationSize / 100),
+                new ReplacementStrategy(ReplacementStrategy.Mode.STEADY_STATE, populationSize / 10),
+                new ReplacementStrategy(ReplacementStrategy.Mode.STEADY_STATE, 2 * Algorithm.CHUNK_SIZE)
+        };
+
+        for (ReplacementStrategy strategy : strategies) {
+            SolverConfig config = new SolverConfig(CONFIG);
+            config.setReplacement(strategy);
+            RandomSource random = new RandomSource(SEED);
+            Algorithm algorithm = new Algorithm(data.getInstance(), config, ForkJoinPool.commonPool(), random.split());
+            Population population = new Population(populationSize, data, random);
+            Population spare = new Population(new Schedule[populationSize]);
+            long evaluations = population.evaluate();
+            int halfway = -1;
+
+            long start = System.nanoTime();
+            while (evaluations < budget) {
+                Population next = algorithm.evolve(population, spare);
+                spare = population;
+                population = next;
+                evaluations += algorithm.getEvaluations();
+                if (halfway < 0 && evaluations >= budget / 2)
+                    halfway = population.getFittest().getViolations();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            log.info(String.format("%-28s evaluations = %-9d violations at half budget = %-5d at full budget = %-5d time = %.2f s",
+                    strategy, evaluations, halfway, population.getFittest().getViolations(), seconds));
+        }
+    }
+
+    /**
+     * Runs a number of independent solves, each with its own data set and a fixed number of generations, first one
+     * after the other and then all at once, on a pool with one thread per available processor. Reports the solves
+     * completed and the fitness evaluations performed per second in both cases.
+     *
+     * @param solves         Number of solves
+     * @param populationSize Size of the population of each solve
+     * @param generations    Number of generations of each solve
+     */
+    private static void concurrent(int solves, int populationSize, int generations) {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        Solver solver = new Solver(pool);
+        SolverConfig config = new SolverConfig(CONFIG);
+        config.setPopulationSize(populationSize);
+        config.setTermination(new TerminationPolicy(0, generations, 2, 0));
+
+        ProblemInstance[] problems = new ProblemInstance[solves];
+        for (int i = 0; i < solves; i++)
+            problems[i] = new Data(new RandomSource(SEED + i)).getInstance();
+
+        for (int round = 0; round < 2; round++) {
+            // The first round only warms up the JIT
+            boolean report = round == 1;
+
+            long evaluations = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < solves; i++) {
+                config.setSeed(SEED + i);
+                SolverHandle handle = solver.solve(problems[i], config);
+                handle.getResult().join();
+                evaluations += handle.getStatistics().getEvaluations();
+            }
+            if (report)
+                logConcurrent("Sequential", solves, evaluations, System.nanoTime() - start);
+
+            SolverHandle[] handles = new SolverHandle[solves];
+            start = System.nanoTime();
+            for (int i = 0; i < solves; i++) {
+                config.setSeed(SEED + i);
+                handles[i] = solver.solve(problems[i], config);
+            }
+            evaluations = 0;
+            for (SolverHandle handle : handles) {
+                handle.getResult().join();
+                evaluations += handle.getStatistics().getEvaluations();
+            }
+            if (report)
+                logConcurrent("Concurrent", solves, evaluations, System.nanoTime() - start);
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Measures the heap retained by a population of evaluated schedules, and the memory allocated by the fitness
+     * evaluations, which is what the garbage collector has to reclaim
+     *
+     * @param teams          Number of teams of the tournament
+     * @param populationSize Size of the population
+     * @param evaluations    Number of fitness evaluations measured
+     */
+    private static void footprint(int teams, int populationSize, int evaluations) {
+        ProblemInstance problem = tournament(teams).getInstance();
+        RandomSource random = new RandomSource(SEED);
+
+        long before = usedHeap();
+        Population population = new Population(populationSize, problem, random);
+        population.evaluate();
+        long retained = usedHeap() - before;
+
+        // The first half only warms up the JIT
+        long bytes = 0;
+        for (int i = 0; i < 2 * evaluations; i++) {
+            if (i == evaluations)
+                bytes = allocatedBytes();
+            population.get(i % populationSize).computeFitness();
+        }
+        bytes = allocatedBytes() - bytes;
+
+        log.info(String.format("Schedules = %d  retained bytes/schedule = %.1f  allocated bytes/evaluation = %s",
+                population.size(), (double) retained / populationSize,
+                bytes < 0 ? "n/a" : String.format("%.1f", (double) bytes / evaluations)));
+    }
+
+    /**
+     * Measures the time taken to evaluate single-gene moves on one schedule, computing the fitness again over all the
+     * genes after each move and following the violations with an {@link IncrementalEvaluator}, then the time taken to
+     * mutate and evaluate a child both ways
+     *
+     * @param teams Number of teams of the tournament
+     * @param moves Number of moves measured each way
+     */
+    private static void delta(int teams, int moves) {
+        ProblemInstance problem = tournament(teams).getInstance();
+        RandomSource random = new RandomSource(SEED);
+        Schedule full = new Schedule(problem, random);
+        Schedule incremental = full.copy();
+        int[] indices = new int[moves];
+        int[] genes = new int[moves];
+        for (int i = 0; i < moves; i++) {
+            indices[i] = random.nextInt(full.size());
+            genes[i] = problem.randomGene(random);
+        }
+
+        IncrementalEvaluator evaluator = IncrementalEvaluator.forCurrentThread();
+        long fullNanos = 0;
+        long incrementalNanos = 0;
+        for (int round = 0; round < 2; round++) {
+            // The first round only warms up the JIT
+            long start = System.nanoTime();
+            for (int i = 0; i < moves; i++) {
+                full.setGene(indices[i], genes[i]);
+                full.computeFitness();
+            }
+            fullNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            evaluator.attach(incremental);
+            for (int i = 0; i < moves; i++)
+                evaluator.setGene(indices[i], genes[i]);
+            evaluator.detach();
+            incrementalNanos = System.nanoTime() - start;
+        }
+        log.info(String.format("Teams = %d  genes = %d  violations = %d / %d", teams, full.size(),
+                full.getViolations(), incremental.getViolations()));
+        log.info(String.format("Move  full ns = %-10.1f incremental ns = %-10.1f speedup = %.1f",
+                (double) fullNanos / moves, (double) incrementalNanos / moves, (double) fullNanos / incrementalNanos));
+
+        int children = Math.max(1, moves / full.size());
+        for (int round = 0; round < 2; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < children; i++) {
+                Schedule child = full.copy();
+                for (int j = 0; j < child.size(); j++)
+                    if (random.nextDouble() <= CONFIG.getMutationRate())
+                        child.setGene(j, problem.randomGene(random));
+                child.computeFitness();
+            }
+            fullNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < children; i++) {
+                Schedule child = full.copy();
+                evaluator.attach(child);
+                for (int j = 0; j < child.size(); j++)
+                    if (random.nextDouble() <= CONFIG.getMutationRate())
+                        evaluator.setGene(j, problem.randomGene(random));
+                evaluator.detach();
+            }
+            incrementalNanos = System.nanoTime() - start;
+        }
+        log.info(String.format("Child full ns = %-10.1f incremental ns = %-10.1f speedup = %.1f",
+                (double) fullNanos / children, (double) incrementalNanos / children,
+                (double) fullNanos / incrementalNanos));
+    }
+
+    /**
+     * Measures the number of fitness evaluations per second of a whole population: one schedule at a time with
+     * {@link Schedule#computeFitness()}, in blocks loaded from the schedules by the {@link BatchEvaluator}, and over
+     * a column store of the whole population built beforehand
+     *
+     * @param teams          Number of teams of the tournament
+     * @param populationSize Size of the population
+     */
+    private static void batch(int teams, int populationSize) {
+        ProblemInstance problem = tournament(teams).getInstance();
+        Population population = new Population(populationSize, problem, new RandomSource(SEED));
+        GeneColumns columns = GeneColumns.of(population);
+        int[] violations = new int[populationSize];
+        BatchEvaluator evaluator = BatchEvaluator.forCurrentThread();
+
+        for (int round = 0; round < 3; round++) {
+            // The first rounds only warm up the JIT
+            boolean report = round == 2;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < populationSize; i++)
+                population.get(i).computeFitness();
+            long single = System.nanoTime() - start;
+            int mismatches = 0;
+            for (int i = 0; i < populationSize; i++)
+                violations[i] = population.get(i).getViolations();
+
+            for (int i = 0; i < populationSize; i++)
+                population.get(i).setGene(0, population.get(i).getGenes()[0]);
+            start = System.nanoTime();
+            evaluator.evaluate(population, 0, populationSize);
+            long blocks = System.nanoTime() - start;
+            for (int i = 0; i < populationSize; i++)
+                if (population.get(i).getViolations() != violations[i])
+                    mismatches++;
+
+            int[] batch = new int[populationSize];
+            start = System.nanoTime();
+            evaluator.evaluate(problem, columns, 0, populationSize, batch);
+            long stored = System.nanoTime() - start;
+            for (int i = 0; i < populationSize; i++)
+                if (batch[i] != violations[i])
+                    mismatches++;
+
+            if (report) {
+                log.info(String.format("Teams = %d  schedules = %d  genes = %d  mismatches = %d", teams,
+                        populationSize, columns.getGeneCount(), mismatches));
+                log.info(String.format("Evaluations/s  single = %-12.0f blocks = %-12.0f columns = %.0f",
+                        populationSize / (single / 1e9), populationSize / (blocks / 1e9),
+                        populationSize / (stored / 1e9)));
+            }
+        }
+    }
+
+    /**
+     * Runs the same number of generations on a population of schedules on the heap and on a population stored off the
+     * heap, for growing sizes, and reports the time taken, the time spent in garbage collection and the memory used.
+     * Both run on a single thread. A size for which the heap is exhausted is reported as such.
+     *
+     * @param teams             Number of teams of the tournament
+     * @param maxPopulationSize Size of the largest population
+     * @param generations       Number of generations run for each size
+     */
+    private static void offHeap(int teams, int maxPopulationSize, int generations) {
+        ProblemInstance problem = tournament(teams).getInstance();
+        for (int populationSize = 10000; populationSize <= maxPopulationSize; populationSize *= 10) {
+            // Off the heap first, so that it does not run after a heap which has just been exhausted
+            RandomSource random = new RandomSource(SEED);
+            long gc = gcMillis();
+            long start = System.nanoTime();
+            OffHeapPopulation offHeap = new OffHeapPopulation(problem, populationSize);
+            offHeap.fill(random);
+            for (int i = 0; i < generations; i++)
+                offHeap.evolve(CONFIG, random);
+            logOffHeap("Off-heap", populationSize, offHeap.getViolations(offHeap.getFittest()),
+                    System.nanoTime() - start, gcMillis() - gc, offHeap.getByteSize());
+            offHeap = null;
+
+            start = System.nanoTime();
+            try {
+                // The populations are only referenced by the frame of the run, so they are gone when it fails
+                evolveOnHeap(problem, populationSize, generations);
+            } catch (OutOfMemoryError e) {
+                log.info(String.format("%-8s schedules = %-9d out of heap after %.1f s", "Heap", populationSize,
+                        (System.nanoTime() - start) / 1e9));
+            }
+        }
+    }
+
+    /**
+     * Runs generations on a population of schedules on the heap, on a single thread, and logs the measures
+     *
+     * @param problem        The problem instance
+     * @param populationSize Size of the population
+     * @param generations    Number of generations
+     */
+    private static void evolveOnHeap(ProblemInstance problem, int populationSize, int generations) {
+        RandomSource random = new RandomSource(SEED);
+        long heap = usedHeap();
+        long gc = gcMillis();
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Algorithm algorithm = new Algorithm(problem, CONFIG, pool, random.split());
+            Population population = new Population(populationSize, problem, random);
+            Population spare = new Population(new Schedule[populationSize]);
+            population.evaluate();
+            for (int i = 0; i < generations; i++) {
+                Population next = algorithm.evolve(population, spare);
+                spare = population;
+                population = next;
+            }
+            long nanos = System.nanoTime() - start;
+            gc = gcMillis() - gc;
+            heap = usedHeap() - heap;
+            logOffHeap("Heap", populationSize, population.getFittest().getViolations(), nanos, gc, heap);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Gets the time spent in garbage collection since the start of the virtual machine
+     *
+     * @return Cumulative collection time of all the collectors in milliseconds
+     */
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+            millis += Math.max(0, bean.getCollectionTime());
+        return millis;
+    }
+
+    /**
+     * Logs the measures of a run of the off-heap benchmark
+     *
+     * @param name           Storage of the population
+     * @param populationSize Size of the population
+     * @param violations     Violations of the best schedule at the end of the run
+     * @param nanos          Time taken by the run, including the creation of the population
+     * @param gcMillis       Time spent in garbage collection during the run
+     * @param bytes          Memory taken by the population
+     */
+    private static void logOffHeap(String name, int populationSize, int violations, long nanos, long gcMillis,
+                                   long bytes) {
+        log.info(String.format("%-8s schedules = %-9d best = %-6d time = %-8.1f s  GC = %-8.1f s  memory = %.0f MB",
+                name, populationSize, violations, nanos / 1e9, gcMillis / 1e3, bytes / 1e6));
+    }
+
+    /**
+     * Solves synthetic tournaments of 4, 8, 16, ... teams with the same parameters and reports, for each size, the time
+     * per generation, the fitness evaluations per second and the violations of the best schedule found
+     *
+     * @param maxTeams       Number of teams of the largest tournament
+     * @param populationSize Size of the population
+     * @param generations    Number of generations of each solve
+     */
+    private static void scaling(int maxTeams, int populationSize, int generations) {
+        SolverConfig config = new SolverConfig(CONFIG);
+        config.setPopulationSize(populationSize);
+        config.setTermination(new TerminationPolicy(0, generations, 2, 0));
+        config.setSeed(SEED);
+        Solver solver = new Solver();
+        for (int teams = 4; teams <= maxTeams; teams *= 2) {
+            ProblemInstance problem = tournament(teams).getInstance();
+            long start = System.nanoTime();
+            SolverHandle handle = solver.solve(problem, config);
+            Schedule best = handle.getResult().join();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            log.info(String.format("Teams = %-3d genes = %-5d days = %-5d ms/generation = %-9.1f evaluations/s = %-10.0f"
+                            + " best = %d", teams, best.size(), problem.getDayCount(), seconds * 1000 / generations,
+                    handle.getStatistics().getEvaluations() / seconds, best.getViolations()));
+        }
+    }
+
+    /**
+     * Writes the data files of a tournament with a forecast issued again every day, so that each day and venue has a
+     * row in every revision, then loads them with a {@link DataLoader} and, for comparison, reads the forecast line by
+     * line into the weather map of the data set
+     *
+     * @param venues    Number of venues, each the home ground of one team up to {@link Gene#MAX_TEAMS} teams
+     * @param days      Number of days of the calendar
+     * @param revisions Number of rows for each day and venue
+     * @throws IOException If the files cannot be written or read
+     */
+    private static void load(int venues, int days, int revisions) throws IOException {
+        Path directory = Files.createTempDirectory("scheduling");
+        try {
+            DataLoader loader = writeFiles(directory, venues, days, revisions);
+            long fileBytes = Files.size(loader.getForecastFile());
+
+            // The first load only warms up the JIT
+            loader.load();
+            long heap = usedHeap();
+            long bytes = allocatedBytes();
+            Data data = loader.load();
+            bytes = allocatedBytes() - bytes;
+            heap = usedHeap() - heap;
+            logLoad("Streaming", loader.getForecastRows(), fileBytes, loader.getLoadNanos(), heap, bytes,
+                    data.getInstance());
+            data = null;
+
+            heap = usedHeap();
+            bytes = allocatedBytes();
+            long start = System.nanoTime();
+            Data mapped = loadWeatherMap(loader);
+            long nanos = System.nanoTime() - start;
+            bytes = allocatedBytes() - bytes;
+            heap = usedHeap() - heap;
+            logLoad("Map", loader.getForecastRows(), fileBytes, nanos, heap, bytes, mapped.getInstance());
+        } finally {
+            for (String file : new String[]{"venues.csv", "teams.csv", "calendar.csv", "forecast.csv"})
+                Files.deleteIfExists(directory.resolve(file));
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Writes the venues, teams, calendar and forecast files of the load benchmark
+     *
+     * @param directory Directory of the files
+     * @param venues    Number of venues
+     * @param days      Number of days of the calendar
+     * @param revisions Number of rows for each day and venue
+     * @return The loader of the files
+     * @throws IOException If the files cannot be written
+     */
+    private static DataLoader writeFiles(Path directory, int venues, int days, int revisions) throws IOException {
+        DataLoader loader = new DataLoader();
+        loader.setVenuesFile(directory.resolve("venues.csv"));
+        loader.setTeamsFile(directory.resolve("teams.csv"));
+        loader.setCalendarFile(directory.resolve("calendar.csv"));
+        loader.setForecastFile(directory.resolve("forecast.csv"));
+
+        String[] dates = new String[days];
+        SimpleDateFormat format = (SimpleDateFormat) Data.dateFormat.clone();
+        Calendar day = new Calendar.Builder().setDate(2019, Calendar.MAY, 30).build();
+        for (int i = 0; i < days; i++) {
+            dates[i] = format.format(day.getTime());
+            day.add(Calendar.DAY_OF_YEAR, 1);
+        }
+
+        try (Writer writer = Files.newBufferedWriter(loader.getVenuesFile(), StandardCharsets.UTF_8)) {
+            writer.write("venue\n");
+            for (int i = 1; i <= venues; i++)
+                writer.write("Venue" + i + "\n");
+        }
+        try (Writer writer = Files.newBufferedWriter(loader.getTeamsFile(), StandardCharsets.UTF_8)) {
+            writer.write("team,venue\n");
+            for (int i = 1; i <= Math.min(venues, Gene.MAX_TEAMS); i++)
+                writer.write("Team" + i + ",Venue" + i + "\n");
+        }
+        try (Writer writer = Files.newBufferedWriter(loader.getCalendarFile(), StandardCharsets.UTF_8)) {
+            writer.write("date\n");
+            for (String date : dates)
+                writer.write(date + "\n");
+        }
+        RandomSource random = new RandomSource(SEED);
+        try (Writer writer = Files.newBufferedWriter(loader.getForecastFile(), StandardCharsets.UTF_8)) {
+            writer.write("date,venue,rain\n");
+            for (int revision = 0; revision < revisions; revision++)
+                for (String date : dates)
+                    for (int venue = 1; venue <= venues; venue++)
+                        writer.write(date + ",Venue" + venue + "," + random.nextInt(101) + "\n");
+        }
+        return loader;
+    }
+
+    /**
+     * Loads the data files the straightforward way: the teams, venues and calendar with a {@link DataLoader}, and the
+     * forecast split into Strings line by line and put into the weather map of the data set
+     *
+     * @param loader The loader of the files
+     * @return The data set
+     * @throws IOException If the files cannot be read
+     */
+    private static Data loadWeatherMap(DataLoader loader) throws IOException {
+        DataLoader withoutForecast = new DataLoader();
+        withoutForecast.setVenuesFile(loader.getVenuesFile());
+        withoutForecast.setTeamsFile(loader.getTeamsFile());
+        withoutForecast.setCalendarFile(loader.getCalendarFile());
+        Data data = withoutForecast.load();
+
+        HashMap<String, Location> locations = new HashMap<>();
+        for (Location location : data.getLocationList())
+            locations.put(location.getLocationName(), location);
+        try (BufferedReader reader = Files.newBufferedReader(loader.getForecastFile(), StandardCharsets.UTF_8)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split(",");
+                data.getWeather().computeIfAbsent(fields[0], date -> new HashMap<>())
+                        .put(locations.get(fields[1]), Integer.parseInt(fields[2]));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Logs the measures of a load of the forecast
+     *
+     * @param name      Way the forecast was loaded
+     * @param rows      Number of rows of the forecast file
+     * @param fileBytes Size of the forecast file
+     * @param nanos     Time taken by the load
+     * @param heap      Heap retained by the data set
+     * @param bytes     Memory allocated by the load, negative if it could not be measured
+     * @param problem   The problem instance built from the data set
+     */
+    private static void logLoad(String name, long rows, long fileBytes, long nanos, long heap, long bytes,
+                                ProblemInstance problem) {
+        log.info(String.format("%-9s rows = %-8d time = %-7.2f s  rows/s = %-9.0f MB/s = %-6.1f retained = %-6.1f MB"
+                        + "  allocated bytes/row = %-7s instance built in %.1f ms", name, rows, nanos / 1e9,
+                rows / (nanos / 1e9), fileBytes / 1e6 / (nanos / 1e9), heap / 1e6,
+                bytes < 0 ? "n/a" : String.format("%.1f", (double) bytes / rows), problem.getBuildNanos() / 1e6));
+    }
+
+    /**
+     * Gets the heap used by reachable objects, after asking for a garbage collection
+     *
+     * @return Used heap in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Logs the throughput of a number of solves
+     *
+     * @param name        Name of the way the solves were run
+     * @param solves      Number of solves
+     * @param evaluations Number of fitness evaluations performed by all solves
+     * @param nanos       Time taken in nanoseconds
+     */
+    private static void logConcurrent(String name, int solves, long evaluations, long nanos) {
+        double seconds = nanos / 1e9;
+        log.info(String.format("%-11s solves = %-4d solves/s = %-8.2f evaluations/s = %.0f", name, solves,
+                solves / seconds, evaluations / seconds));
+    }
+
+    /**
+     * Creates the synthetic tournament of the benchmarks with the given number of teams, each team having its own home
+     * ground, see {@link TournamentGenerator}
+     *
+     * @param teams Number of teams
+     * @return The data set
+     */
+    private static Data tournament(int teams) {
+        TournamentGenerator generator = new TournamentGenerator();
+        generator.setTeams(teams);
+        generator.setVenues(teams);
+        generator.setSeed(SEED);
+        return generator.generate();
+    }
+
+    /**
+     * Logs the cost of selecting parents
+     *
+     * @param name    Name of the selection method
+     * @param parents Number of parents selected
+     * @param nanos   Time taken in nanoseconds
+     * @param bytes   Memory allocated in bytes, negative if it could not be measured
+     */
+    private static void logSelection(String name, int parents, long nanos, long bytes) {
+        log.info(String.format("%-22s ns/parent = %-10.1f bytes/parent = %s", name, (double) nanos / parents,
+                bytes < 0 ? "n/a" : String.format("%.1f", (double) bytes / parents)));
+    }
+
+    /**
+     * Gets the number of bytes allocated so far by the current thread
+     *
+     * @return Allocated bytes, or -1 if the JVM does not support measuring it
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return -1;
+    }
+
+    /**
+     * Reads an optional integer argument
+     *
+     * @param args         Command line arguments
+     * @param index        Position of the argument
+     * @param defaultValue Value used when the argument is missing
+     * @return The value of the argument
+     */
+    private static int intArgument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
@@ -0,0 +1,315 @@
+package scheduling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * This class streams the records of a CSV file, one line at a time, without creating a String per line or per field.
+ * The characters are read into a buffer which is reused for the whole file, and the fields of the current record are
+ * only positions in this buffer, parsed in place by {@link #integer(int)}, {@link #epochDay(int)} and
+ * {@link #matches(int, String)}. The fields are separated by commas and trimmed, quoting is not supported. Blank lines
+ * and lines starting with '#' are skipped.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+final class CsvReader implements Closeable {
+
+    /**
+     * Name of the file, for the error messages
+     */
+    private final String name;
+
+    /**
+     * The characters of the file
+     */
+    private final Reader reader;
+
+    /**
+     * Buffer of the characters read, the unread ones being from {@code position} to {@code limit}. It grows to hold
+     * the longest line.
+     */
+    private char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+
+    /**
+     * Start and end in the buffer of every field of the current record
+     */
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private int fields;
+
+    /**
+     * Number of the current line, from 1
+     */
+    private long line;
+
+    /**
+     * Date of the last field parsed by {@link #epochDay(int)}, as the rows of a forecast are usually sorted by date
+     */
+    private int lastDate = -1;
+    private long lastEpochDay;
+
+    /**
+     * Constructor. Creates a reader of the records of a file.
+     *
+     * @param name   Name of the file, for the error messages
+     * @param reader The characters of the file
+     */
+    CsvReader(String name, Reader reader) {
+        this.name = name;
+        this.reader = reader;
+    }
+
+    /**
+     * Moves to the next record. The fields of the previous record are not valid anymore.
+     *
+     * @return false if the end of the file is reached
+     * @throws IOException If the file cannot be read
+     */
+    boolean next() throws IOException {
+        while (true) {
+            int end = lineEnd();
+            if (end < 0)
+                return false;
+            int start = position;
+            position = end < limit ? end + 1 : limit;
+            line++;
+            if (end > start && buffer[end - 1] == '\r')
+                end--;
+            split(start, end);
+            if (fields > 1 || ends[0] > starts[0]) {
+                if (buffer[starts[0]] != '#')
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of fields of the current record
+     *
+     * @return Number of fields
+     */
+    int fields() {
+        return fields;
+    }
+
+    /**
+     * Checks that the current record has at least a number of fields
+     *
+     * @param count Number of fields expected
+     * @throws IOException If the record has less fields
+     */
+    void require(int count) throws IOException {
+        if (fields < count)
+            throw error(count + " fields expected, found " + fields);
+    }
+
+    /**
+     * Gets the text of a field
+     *
+     * @param field Index of the field
+     * @return A new String holding the field
+     */
+    String text(int field) {
+        return new String(buffer, starts[field], ends[field] - starts[field]);
+    }
+
+    /**
+     * Checks whether a field holds a text
+     *
+     * @param field Index of the field
+     * @param text  The text
+     * @return true if the field is equal to the text
+     */
+    boolean matches(int field, String text) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (length != text.length())
+            return false;
+        for (int i = 0; i < length; i++)
+            if (buffer[start + i] != text.charAt(i))
+                return false;
+        return true;
+    }
+
+    /**
+     * Computes the hash code of a field, equal to the {@link String#hashCode()} of its text
+     *
+     * @param field Index of the field
+     * @return The hash code
+     */
+    int hash(int field) {
+        int hash = 0;
+        for (int i = starts[field]; i < ends[field]; i++)
+            hash = 31 * hash + buffer[i];
+        return hash;
+    }
+
+    /**
+     * Parses a field holding a decimal integer
+     *
+     * @param field Index of the field
+     * @return The value of the field
+     * @throws IOException If the field is not an integer
+     */
+    int integer(int field) throws IOException {
+        int i = starts[field];
+        int end = ends[field];
+        boolean negative = i < end && buffer[i] == '-';
+        if (negative)
+            i++;
+        if (i == end || end - i > 9)
+            throw error("Integer expected: " + text(field));
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9)
+                throw error("Integer expected: " + text(field));
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a field holding a date in the format of {@link Data#dateFormat} (MM/dd/yyyy)
+     *
+     * @param field Index of the field
+     * @return The number of days since the epoch of the date
+     * @throws IOException If the field is not a valid date
+     */
+    long epochDay(int field) throws IOException {
+        int i = starts[field];
+        if (ends[field] - i != 10 || buffer[i + 2] != '/' || buffer[i + 5] != '/')
+            throw error("Date expected (MM/dd/yyyy): " + text(field));
+        int month = digits(i, 2, field);
+        int day = digits(i + 3, 2, field);
+        int year = digits(i + 6, 4, field);
+        int date = (year * 100 + month) * 100 + day;
+        if (date != lastDate) {
+            try {
+                lastEpochDay = LocalDate.of(year, month, day).toEpochDay();
+            } catch (DateTimeException ex) {
+                throw error("Invalid date: " + text(field));
+            }
+            lastDate = date;
+        }
+        return lastEpochDay;
+    }
+
+    /**
+     * Creates the exception reporting an error at the current line
+     *
+     * @param message Description of the error
+     * @return The exception
+     */
+    IOException error(String message) {
+        return new IOException(name + ":" + line + ": " + message);
+    }
+
+    /**
+     * Closes the file
+     *
+     * @throws IOException If the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Parses a number of decimal digits of a field
+     *
+     * @param start Position of the first digit in the buffer
+     * @param count Number of digits
+     * @param field Index of the field, for the error message
+     * @return The value of the digits
+     * @throws IOException If a character is not a digit
+     */
+    private int digits(int start, int count, int field) throws IOException {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9)
+                throw error("Date expected (MM/dd/yyyy): " + text(field));
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Finds the end of the next line, reading more characters as needed
+     *
+     * @return Position of the '\n' ending the line in the buffer, {@code limit} for a last line without one, or -1 at
+     * the end of the file
+     * @throws IOException If the file cannot be read
+     */
+    private int lineEnd() throws IOException {
+        int scanned = position;
+        while (true) {
+            for (int i = scanned; i < limit; i++)
+                if (buffer[i] == '\n')
+                    return i;
+            scanned = limit - position;
+            if (!fill())
+                return limit > position ? limit : -1;
+            scanned += position;
+        }
+    }
+
+    /**
+     * Moves the unread characters to the start of the buffer, growing it if it is full, and reads more characters
+     *
+     * @return false if the end of the file is reached
+     * @throws IOException If the file cannot be read
+     */
+    private boolean fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read < 0)
+            return false;
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Splits a line into trimmed fields
+     *
+     * @param start Position of the first character of the line
+     * @param end   Position after the last character of the line
+     */
+    private void split(int start, int end) {
+        fields = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i < end && buffer[i] != ',')
+                continue;
+            if (fields == starts.length) {
+                starts = Arrays.copyOf(starts, fields * 2);
+                ends = Arrays.copyOf(ends, fields * 2);
+            }
+            int from = fieldStart;
+            int to = i;
+            while (from < to && buffer[from] == ' ')
+                from++;
+            while (to > from && buffer[to - 1] == ' ')
+                to--;
+            starts[fields] = from;
+            ends[fields] = to;
+            fields++;
+            fieldStart = i + 1;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package scheduling;
 
+import scheduling.constraint.ConstraintSet;
 import scheduling.pojo.Location;
 import scheduling.pojo.Team;
 
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.*;
 
@@ -19,7 +21,15 @@ import java.util.*;
     **@Date 04/18/2019
     **/
 public class Data {
+    /**
+     * Format of the dates used as keys of the weather map. Not thread-safe, only to be used while filling the data.
+     */
     public static final SimpleDateFormat dateFormat = new SimpleDateFormat("MM/dd/yyyy");
+
+    /**
+     * Probability of rain above which the weather of a day is considered as bad
+     */
+    public static final int BAD_WEATHER_THRESHOLD = 70;
     /**
      * The member variables for holding the data
      */
@@ -28,17 +38,81 @@ public class Data {
     private ArrayList<Location> locationList;
     private HashMap<String, HashMap<Location, Integer>> weather;
 
+    /**
+     * Probability of rain for every day of the window and location, in the layout of
+     * {@link ProblemInstance#getWeatherMatrix()}, used instead of the weather map when it is set
+     */
+    private int[] rainMatrix;
+
+    /**
+     * The constraints a schedule of this data set should satisfy
+     */
+    private ConstraintSet constraints;
+
+    /**
+     * Source of random numbers for generating the weather
+     */
+    private RandomSource random;
+
+    /**
+     * The snapshot of this data set used by the algorithm, built on first use
+     */
+    private volatile ProblemInstance instance;
+
     /**
      * Constructor. Creates an instance for the class scheduling.Data.
      */
     public Data() {
+        this(new RandomSource());
+    }
+
+    /**
+     * Constructor. Creates an instance for the class scheduling.Data with the weather drawn from the source passed.
+     *
+     * @param random Source of random numbers for generating the weather
+     */
+    public Data(RandomSource random) {
+        this.random = random;
         dates = new ArrayList<>();
         teamList = new ArrayList<>();
         locationList = new ArrayList<>();
         weather = new HashMap<>();
+        constraints = ConstraintSet.defaults();
         initializeData();
     }
 
+    /**
+     * Constructor. Creates an instance for the class scheduling.Data holding a synthetic tournament, with the weather
+     * drawn from the seed of the generator.
+     *
+     * @param generator The parameters of the tournament
+     */
+    public Data(TournamentGenerator generator) {
+        this.random = new RandomSource(generator.getSeed());
+        dates = new ArrayList<>();
+        teamList = new ArrayList<>();
+        locationList = new ArrayList<>();
+        weather = new HashMap<>();
+        constraints = ConstraintSet.defaults();
+        generator.fill(this, random);
+    }
+
+    /**
+     * Constructor. Creates an instance for the class scheduling.Data holding the teams, venues, calendar and
+     * forecast read from files.
+     *
+     * @param loader The paths of the files
+     * @throws IOException If a file cannot be read or is not valid
+     */
+    public Data(DataLoader loader) throws IOException {
+        dates = new ArrayList<>();
+        teamList = new ArrayList<>();
+        locationList = new ArrayList<>();
+        weather = new HashMap<>();
+        constraints = ConstraintSet.defaults();
+        loader.fill(this);
+    }
+
     /**
      * Getter method for {@code ArrayList<Date> dates}
      *
@@ -75,10 +149,55 @@ public class Data {
         return weather;
     }
 
+    /**
+     * Getter method for {@code int[] rainMatrix}
+     *
+     * @return The probability of rain for every day of the window and location, null if the weather map is used
+     */
+    public int[] getRainMatrix() {
+        return rainMatrix;
+    }
+
+    /**
+     * Setter method for {@code int[] rainMatrix}
+     *
+     * @param rainMatrix The probability of rain for every day from the first date to the last one and location
+     */
+    void setRainMatrix(int[] rainMatrix) {
+        this.rainMatrix = rainMatrix;
+    }
+
+    /**
+     * Getter method for {@code ConstraintSet constraints}
+     *
+     * @return The constraints used to compute the fitness of a schedule
+     */
+    public ConstraintSet getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Gets the frozen snapshot of this data set used by the algorithm, building it on first use. The data set should
+     * be completely filled before, the changes made afterwards are not seen by the snapshot.
+     *
+     * @return The problem instance of this data set
+     */
+    public ProblemInstance getInstance() {
+        ProblemInstance result = instance;
+        if (result == null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null)
+                    instance = result = new ProblemInstance(this);
+            }
+        }
+        return result;
+    }
+
     /**
      * This function initializes all the member variable with default values. In this case the data.
      */
-    void initializeData() {
+    private void initializeData() {
         Location location1 = new Location("England");
         Location location2 = new Location("India");
         Location location3 = new Location("SouthAfrica");
@@ -106,13 +225,15 @@ public class Data {
             count++;
         }
 
+        // The shared format is not thread-safe, and several data sets may be created at the same time
+        SimpleDateFormat format = (SimpleDateFormat) dateFormat.clone();
         weather.clear();
         for (Date d : dates) {
             HashMap<Location, Integer> map = new HashMap();
-            weather.put(dateFormat.format(d), map);
+            weather.put(format.format(d), map);
             for (Location l : locationList) {
-                map.put(l, (new Random()).nextInt(100));
+                map.put(l, random.nextInt(100));
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,363 @@
+package scheduling;
+
+import scheduling.pojo.Location;
+import scheduling.pojo.Team;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This class loads a data set from CSV files, for running the algorithm on real teams, venues and forecasts:
+ * - the venues file holds the name of every venue: {@code venue}
+ * - the teams file holds the name and home ground of every team: {@code team,venue}
+ * - the calendar file holds every date on which a match can be played, once: {@code date}
+ * - the optional forecast file holds the probability of rain, from 0 to 100, of days at venues:
+ *   {@code date,venue,rain}. The rows can come in any order, a later row for the same day and venue replaces the
+ *   earlier one, and the rows for days outside of the calendar or for unknown venues are ignored. The weather of a
+ *   day and venue without a row is good.
+ * Every file starts with a header line, the dates are in the format of {@link Data#dateFormat} (MM/dd/yyyy).
+ * A data set is limited by the encoding of the matches into {@link Gene}s: at most {@link Gene#MAX_VENUES} (256)
+ * venues, {@link Gene#MAX_TEAMS} (64) teams and a calendar spanning {@link Gene#MAX_DAYS} (4096) days. Larger files
+ * are rejected with the line which goes over the limit.
+ * The files are streamed line by line: the forecast goes straight into the weather matrix of the data set, without
+ * creating a String or a map entry per row, so files of millions of rows are loaded in a few seconds and take no more
+ * memory than the matrix. The paths are set like the parameters of a {@link SolverConfig}, then {@link #load()}
+ * creates the data set.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class DataLoader {
+
+    /**
+     * Member variables holding the paths of the files
+     */
+    private Path venuesFile;
+    private Path teamsFile;
+    private Path calendarFile;
+    private Path forecastFile;
+
+    /**
+     * Member variables holding the statistics of the last load
+     */
+    private long forecastRows;
+    private long ignoredRows;
+    private long loadNanos;
+
+    /**
+     * Loads the data set from the files
+     *
+     * @return A new data set
+     * @throws IOException If a file cannot be read or is not valid
+     */
+    public Data load() throws IOException {
+        return new Data(this);
+    }
+
+    /**
+     * Fills an empty data set with the content of the files
+     *
+     * @param data The data set
+     * @throws IOException If a file cannot be read or is not valid
+     */
+    void fill(Data data) throws IOException {
+        if (venuesFile == null || teamsFile == null || calendarFile == null)
+            throw new IllegalStateException("The venues, teams and calendar files must be set");
+        long start = System.nanoTime();
+        forecastRows = 0;
+        ignoredRows = 0;
+
+        Names venues = new Names();
+        try (CsvReader reader = open(venuesFile)) {
+            while (reader.next()) {
+                if (venues.indexOf(reader, 0) >= 0)
+                    throw reader.error("Duplicate venue: " + reader.text(0));
+                if (venues.size() == Gene.MAX_VENUES)
+                    throw reader.error("More than " + Gene.MAX_VENUES + " venues");
+                venues.add(reader.text(0));
+                data.getLocationList().add(new Location(reader.text(0)));
+            }
+        }
+
+        Names teams = new Names();
+        try (CsvReader reader = open(teamsFile)) {
+            while (reader.next()) {
+                reader.require(2);
+                if (teams.indexOf(reader, 0) >= 0)
+                    throw reader.error("Duplicate team: " + reader.text(0));
+                if (teams.size() == Gene.MAX_TEAMS)
+                    throw reader.error("More than " + Gene.MAX_TEAMS + " teams");
+                int venue = venues.indexOf(reader, 1);
+                if (venue < 0)
+                    throw reader.error("Unknown venue: " + reader.text(1));
+                teams.add(reader.text(0));
+                data.getTeamList().add(new Team(reader.text(0), data.getLocationList().get(venue)));
+            }
+        }
+
+        long firstDay = Long.MAX_VALUE;
+        long lastDay = Long.MIN_VALUE;
+        // The dates read, by offset from the first one read plus MAX_DAYS, as the others are less than MAX_DAYS away
+        long origin = 0;
+        BitSet read = new BitSet(2 * Gene.MAX_DAYS);
+        try (CsvReader reader = open(calendarFile)) {
+            while (reader.next()) {
+                long day = reader.epochDay(0);
+                if (data.getDates().isEmpty())
+                    origin = day - Gene.MAX_DAYS;
+                firstDay = Math.min(firstDay, day);
+                lastDay = Math.max(lastDay, day);
+                if (lastDay - firstDay >= Gene.MAX_DAYS)
+                    throw reader.error("The calendar spans more than " + Gene.MAX_DAYS + " days");
+                if (read.get((int) (day - origin)))
+                    throw reader.error("Duplicate date: " + reader.text(0));
+                read.set((int) (day - origin));
+                data.getDates().add(Date.from(LocalDate.ofEpochDay(day).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+            }
+        }
+
+        if (forecastFile != null && !data.getDates().isEmpty()) {
+            int days = (int) (lastDay - firstDay + 1);
+            int[] rain = new int[days * venues.size()];
+            try (CsvReader reader = open(forecastFile)) {
+                while (reader.next()) {
+                    forecastRows++;
+                    reader.require(3);
+                    long day = reader.epochDay(0) - firstDay;
+                    int venue = venues.indexOf(reader, 1);
+                    int probability = reader.integer(2);
+                    if (probability < 0 || probability > 100)
+                        throw reader.error("Probability of rain must be between 0 and 100: " + probability);
+                    if (day < 0 || day >= days || venue < 0)
+                        ignoredRows++;
+                    else
+                        rain[(int) day * venues.size() + venue] = probability;
+                }
+            }
+            data.setRainMatrix(rain);
+        }
+        loadNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Opens a file for streaming its records, skipping the header line
+     *
+     * @param file Path of the file
+     * @return The reader of the records
+     * @throws IOException If the file cannot be opened
+     */
+    private static CsvReader open(Path file) throws IOException {
+        CsvReader reader = new CsvReader(file.toString(), Files.newBufferedReader(file, StandardCharsets.UTF_8));
+        reader.next();
+        return reader;
+    }
+
+    /**
+     * Getter method for {@code Path venuesFile}
+     *
+     * @return Path of the venues file
+     */
+    public Path getVenuesFile() {
+        return venuesFile;
+    }
+
+    /**
+     * Setter method for {@code Path venuesFile}
+     *
+     * @param venuesFile Path of the venues file
+     */
+    public void setVenuesFile(Path venuesFile) {
+        this.venuesFile = venuesFile;
+    }
+
+    /**
+     * Getter method for {@code Path teamsFile}
+     *
+     * @return Path of the teams file
+     */
+    public Path getTeamsFile() {
+        return teamsFile;
+    }
+
+    /**
+     * Setter method for {@code Path teamsFile}
+     *
+     * @param teamsFile Path of the teams file
+     */
+    public void setTeamsFile(Path teamsFile) {
+        this.teamsFile = teamsFile;
+    }
+
+    /**
+     * Getter method for {@code Path calendarFile}
+     *
+     * @return Path of the calendar file
+     */
+    public Path getCalendarFile() {
+        return calendarFile;
+    }
+
+    /**
+     * Setter method for {@code Path calendarFile}
+     *
+     * @param calendarFile Path of the calendar file
+     */
+    public void setCalendarFile(Path calendarFile) {
+        this.calendarFile = calendarFile;
+    }
+
+    /**
+     * Getter method for {@code Path forecastFile}
+     *
+     * @return Path of the forecast file, null if there is none
+     */
+    public Path getForecastFile() {
+        return forecastFile;
+    }
+
+    /**
+     * Setter method for {@code Path forecastFile}
+     *
+     * @param forecastFile Path of the forecast file, null for good weather everywhere
+     */
+    public void setForecastFile(Path forecastFile) {
+        this.forecastFile = forecastFile;
+    }
+
+    /**
+     * Getter method for {@code long forecastRows}
+     *
+     * @return Number of rows of the forecast file read by the last load
+     */
+    public long getForecastRows() {
+        return forecastRows;
+    }
+
+    /**
+     * Getter method for {@code long ignoredRows}
+     *
+     * @return Number of rows of the forecast file ignored by the last load, for days outside of the calendar or
+     * unknown venues
+     */
+    public long getIgnoredRows() {
+        return ignoredRows;
+    }
+
+    /**
+     * Getter method for {@code long loadNanos}
+     *
+     * @return Time taken by the last load in nanoseconds
+     */
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return String equivalent of the Object
+     */
+    @Override
+    public String toString() {
+        return "venues " + venuesFile + ", teams " + teamsFile + ", calendar " + calendarFile + ", forecast "
+                + forecastFile;
+    }
+
+    /**
+     * This class numbers the names read from a file, and finds the number of a name in a field of a record without
+     * creating a String, with an open addressing table of the numbers keyed by the hash code of the names
+     */
+    private static final class Names {
+
+        /**
+         * The names, by number
+         */
+        private final List<String> names = new ArrayList<>();
+
+        /**
+         * Number of the name in each slot of the table, -1 for the free slots
+         */
+        private int[] slots = new int[16];
+
+        /**
+         * Constructor. Creates an empty list of names.
+         */
+        Names() {
+            Arrays.fill(slots, -1);
+        }
+
+        /**
+         * Gets the number of names
+         *
+         * @return Number of names
+         */
+        int size() {
+            return names.size();
+        }
+
+        /**
+         * Adds a name, with the next number
+         *
+         * @param name The name
+         */
+        void add(String name) {
+            names.add(name);
+            if (names.size() * 2 > slots.length) {
+                slots = new int[slots.length * 2];
+                Arrays.fill(slots, -1);
+                for (int i = 0; i < names.size(); i++)
+                    insert(i);
+            } else {
+                insert(names.size() - 1);
+            }
+        }
+
+        /**
+         * Finds the number of the name held by a field
+         *
+         * @param reader The reader of the file
+         * @param field  Index of the field
+         * @return Number of the name, -1 if it is unknown
+         */
+        int indexOf(CsvReader reader, int field) {
+            int mask = slots.length - 1;
+            for (int slot = mix(reader.hash(field)) & mask; slots[slot] >= 0; slot = (slot + 1) & mask)
+                if (reader.matches(field, names.get(slots[slot])))
+                    return slots[slot];
+            return -1;
+        }
+
+        /**
+         * Puts the number of a name in the first free slot from the one of its hash code
+         *
+         * @param number Number of the name
+         */
+        private void insert(int number) {
+            int mask = slots.length - 1;
+            int slot = mix(names.get(number).hashCode()) & mask;
+            while (slots[slot] >= 0)
+                slot = (slot + 1) & mask;
+            slots[slot] = number;
+        }
+
+        /**
+         * Spreads the bits of a hash code, as names like Venue1, Venue2, ... only differ in their last bits
+         *
+         * @param hash The hash code
+         * @return The spread hash code
+         */
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package scheduling;
+
+import java.util.Arrays;
+
+/**
+ * This class buckets the matches of a schedule by their day index. For each day it keeps the number of matches and
+ * a bitmask of the teams playing, so that the day based constraints can be checked without sorting the matches.
+ * A team with id {@code t} is represented by the bit {@code 1L << t}, which is possible as a gene holds at most
+ * {@link Gene#MAX_TEAMS} (64) teams.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class DayIndex {
+
+    /**
+     * Number of matches scheduled on each day
+     */
+    private int[] matchesOnDay = new int[0];
+
+    /**
+     * Bitmask of the teams playing on each day
+     */
+    private long[] teamsOnDay = new long[0];
+
+    /**
+     * Fills the index with the matches of a schedule
+     *
+     * @param genes The encoded matches of the schedule
+     * @param days  Number of days in the tournament window
+     */
+    public void build(int[] genes, int days) {
+        if (matchesOnDay.length != days) {
+            matchesOnDay = new int[days];
+            teamsOnDay = new long[days];
+        } else {
+            Arrays.fill(matchesOnDay, 0);
+            Arrays.fill(teamsOnDay, 0);
+        }
+
+        for (int gene : genes) {
+            int day = Gene.day(gene);
+            matchesOnDay[day]++;
+            teamsOnDay[day] |= (1L << Gene.home(gene)) | (1L << Gene.away(gene));
+        }
+    }
+
+    /**
+     * Counts the pairs of matches which are scheduled on the same day
+     *
+     * @return Number of violations of the "one match per day" constraint
+     */
+    public int countSameDayConflicts() {
+        int conflicts = 0;
+        for (int matches : matchesOnDay)
+            conflicts += matches * (matches - 1) / 2;
+        return conflicts;
+    }
+
+    /**
+     * Counts the teams which play on two consecutive days, once for each pair of days
+     *
+     * @return Number of violations of the "no matches on consecutive days" constraint
+     */
+    public int countConsecutiveDayConflicts() {
+        int conflicts = 0;
+        for (int day = 0; day + 1 < teamsOnDay.length; day++)
+            conflicts += Long.bitCount(teamsOnDay[day] & teamsOnDay[day + 1]);
+        return conflicts;
+    }
+}
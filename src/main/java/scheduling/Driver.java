@@ -11,10 +11,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 /**
  * Driver to start execution of algorithm
@@ -35,19 +34,6 @@ public class Driver {
      */
     private static final Logger log = Logger.getLogger(Driver.class);
     
-    /**
-     * Genetic algorithm properties
-     */
-    static double MUTATION_RATE = 0.05;
-    static double CROSSOVER_RATE = 0.5;
-    static int TOURNAMENT_SELECTION_SIZE = 2;
-    static double CULLING_RATE = 0.5;
-
-    private static int POPULATION_SIZE = 4;
-    private static int COLONY_SIZE = 2;
-    private static Population population = null;
-    private static Data data = new Data();
-
     /**
      * Main function of the driver class
      * 
@@ -57,6 +43,55 @@ public class Driver {
         // Configuring log4j
         BasicConfigurator.configure();
 
+        Properties properties = loadProperties();
+        SolverConfig config = loadConfig(properties);
+        TournamentGenerator generator = loadGenerator(properties);
+        DataLoader loader = loadLoader(properties);
+
+        log.info("Running algorithm with following configuration:");
+        log.info("scheduling.Population Size: " + config.getPopulationSize());
+        log.info("Colony Size: " + config.getColonySize());
+        log.info("Tournament Selection Size: " + config.getTournamentSize());
+        log.info("Mutation Rate: " + config.getMutationRate());
+        log.info("Crossover Rate: " + config.getCrossoverRate());
+        log.info("Culling Rate: " + config.getCullingRate());
+        log.info("Selection Method: " + config.getSelectionMethod());
+        log.info("Migration: " + config.getMigrationSize() + " schedules every " + config.getMigrationInterval()
+                + " generations, " + config.getMigrationTopology() + " topology");
+        log.info("Replacement Strategy: " + config.getReplacement());
+        log.info("Termination: " + config.getTermination());
+        log.info("Seed: " + config.getSeed());
+        log.info("Constraint Statistics: " + config.isConstraintStatistics());
+
+        Data data;
+        if (loader != null) {
+            log.info("Data files: " + loader);
+            try {
+                data = loader.load();
+            } catch (IOException ex) {
+                log.error("Exception happened when loading the data files: " + ex.getMessage());
+                return;
+            }
+            log.info(String.format("Data loaded in %.3f ms, %d forecast rows, %d ignored", loader.getLoadNanos() / 1e6,
+                    loader.getForecastRows(), loader.getIgnoredRows()));
+        } else if (generator == null) {
+            data = new Data(new RandomSource(config.getSeed()).split());
+        } else {
+            log.info("Tournament: " + generator);
+            data = generator.generate();
+        }
+        ProblemInstance problem = data.getInstance();
+        log.info(String.format("Problem instance built in %.3f ms", problem.getBuildNanos() / 1e6));
+        runAlgorithm(problem, config);
+    }
+
+    /**
+     * Reads the properties file. The defaults are used for the properties which are missing, and for all of them if
+     * the file cannot be read.
+     *
+     * @return The properties of the run
+     */
+    private static Properties loadProperties() {
         // Defining default properties
         Properties defaultProps = new Properties();
         defaultProps.setProperty("populationSize", "4");
@@ -65,114 +100,168 @@ public class Driver {
         defaultProps.setProperty("mutationRate", "0.015");
         defaultProps.setProperty("crossoverRate", "0.5");
         defaultProps.setProperty("cullingRate", "0.5");
+        defaultProps.setProperty("selectionMethod", "TOURNAMENT");
+        defaultProps.setProperty("migrationTopology", "RING");
+        defaultProps.setProperty("migrationInterval", "10");
+        defaultProps.setProperty("migrationSize", "2");
+        defaultProps.setProperty("replacementStrategy", "GENERATIONAL");
+        defaultProps.setProperty("eliteCount", "2");
+        defaultProps.setProperty("steadyStateReplacement", "10");
+        defaultProps.setProperty("timeBudgetSeconds", "0");
+        defaultProps.setProperty("maxGenerations", "0");
+        defaultProps.setProperty("targetFitness", "0.5");
+        defaultProps.setProperty("stagnationGenerations", "0");
+        defaultProps.setProperty("seed", String.valueOf(System.nanoTime()));
+        defaultProps.setProperty("constraintStatistics", "false");
+        defaultProps.setProperty("teams", "0");
+        defaultProps.setProperty("venues", "0");
+        defaultProps.setProperty("neutralVenues", "0");
+        defaultProps.setProperty("tournamentDays", "0");
+        defaultProps.setProperty("badWeatherRate", "0.29");
+        defaultProps.setProperty("tournamentSeed", "6205");
+        defaultProps.setProperty("venuesFile", "");
+        defaultProps.setProperty("teamsFile", "");
+        defaultProps.setProperty("calendarFile", "");
+        defaultProps.setProperty("forecastFile", "");
 
         // Reading properties from the property file
         Properties properties = new Properties(defaultProps);
         try {
             properties.load(new FileInputStream(PROPERTIES_FILE_PATH));
-            POPULATION_SIZE = Integer.parseInt(properties.getProperty("populationSize"));
-            COLONY_SIZE = Integer.parseInt(properties.getProperty("colonySize"));
-            TOURNAMENT_SELECTION_SIZE = Integer.parseInt(properties.getProperty("tournamentSelectionSize"));
-            MUTATION_RATE = Double.parseDouble(properties.getProperty("mutationRate"));
-            CROSSOVER_RATE = Double.parseDouble(properties.getProperty("crossoverRate"));
-            CULLING_RATE = Double.parseDouble(properties.getProperty("cullingRate"));
-        } catch (IOException|NumberFormatException ex) {
+        } catch (IOException ex) {
             log.debug("Exception happened when reading the properties file: " + ex.getMessage());
         }
-
-        log.info("Running algorithm with following configuration:");
-        log.info("scheduling.Population Size: " + POPULATION_SIZE);
-        log.info("Colony Size: " + COLONY_SIZE);
-        log.info("Tournament Selection Size: " + TOURNAMENT_SELECTION_SIZE);
-        log.info("Mutation Rate: " + MUTATION_RATE);
-        log.info("Crossover Rate: " + CROSSOVER_RATE);
-        log.info("Culling Rate: " + CULLING_RATE);
-
-        runAlgorithm(0, POPULATION_SIZE);
+        return properties;
     }
 
     /**
-     * This function creates multiple colonies and run the algorithm on each colony in each thread
-     * 
-     * @param from Starting index of the colony in the population
-     * @param to Ending index of the colony in the population
+     * Builds the config of the run from the properties
+     *
+     * @param properties The properties of the run
+     * @return The config of the run
      */
-    private static void runAlgorithm(int from, int to) {
-        int size = to - from;
-
-        if (size < COLONY_SIZE) {
-            population = new Population(size, data, true);
-        } else {
-            int mid = (from + to) / 2;
-
-            CompletableFuture<Population> colonies1 = generatePopulation(from, mid);
-            CompletableFuture<Population> colonies2 = generatePopulation(mid, to);
-
-            CompletableFuture<Population> groupColonies = colonies1
-                    .thenCombine(colonies2, (xs1, xs2) -> new Population(xs1.getSchedules(), xs2.getSchedules()));
-
-            groupColonies.whenComplete((population, throwable) -> {
-                if (throwable != null) {
-                    log.debug("Exception thrown in thread: " + throwable.getMessage());
-                    return;
-                }
-
-                Driver.population = population;
-            });
-
-            CompletableFuture.allOf(groupColonies).join();
-
-            groupColonies.thenRun(Driver::reproduce);
+    private static SolverConfig loadConfig(Properties properties) {
+        SolverConfig config = new SolverConfig();
+        try {
+            config.setPopulationSize(Integer.parseInt(properties.getProperty("populationSize")));
+            config.setColonySize(Integer.parseInt(properties.getProperty("colonySize")));
+            config.setTournamentSize(Integer.parseInt(properties.getProperty("tournamentSelectionSize")));
+            config.setMutationRate(Double.parseDouble(properties.getProperty("mutationRate")));
+            config.setCrossoverRate(Double.parseDouble(properties.getProperty("crossoverRate")));
+            config.setCullingRate(Double.parseDouble(properties.getProperty("cullingRate")));
+            config.setSelectionMethod(SelectionMethod.valueOf(properties.getProperty("selectionMethod")));
+            config.setMigrationTopology(MigrationTopology.valueOf(properties.getProperty("migrationTopology")));
+            config.setMigrationInterval(Integer.parseInt(properties.getProperty("migrationInterval")));
+            config.setMigrationSize(Integer.parseInt(properties.getProperty("migrationSize")));
+            ReplacementStrategy.Mode mode = ReplacementStrategy.Mode.valueOf(properties.getProperty("replacementStrategy"));
+            config.setReplacement(new ReplacementStrategy(mode, Integer.parseInt(properties.getProperty(
+                    mode == ReplacementStrategy.Mode.STEADY_STATE ? "steadyStateReplacement" : "eliteCount"))));
+            config.setTermination(new TerminationPolicy(
+                    (long) (Double.parseDouble(properties.getProperty("timeBudgetSeconds")) * 1000),
+                    Integer.parseInt(properties.getProperty("maxGenerations")),
+                    Double.parseDouble(properties.getProperty("targetFitness")),
+                    Integer.parseInt(properties.getProperty("stagnationGenerations"))));
+            config.setSeed(Long.parseLong(properties.getProperty("seed")));
+            config.setConstraintStatistics(Boolean.parseBoolean(properties.getProperty("constraintStatistics")));
+        } catch (IllegalArgumentException ex) {
+            log.debug("Exception happened when reading the properties file: " + ex.getMessage());
         }
+        return config;
     }
 
     /**
-     * Creates a new thread for a colony
-     * 
-     * @param from Starting index of the colony in the population
-     * @param to Ending index of the colony in the population
-     * @return Created thread of type CompletableFuture
+     * Builds the generator of the synthetic tournament from the properties
+     *
+     * @param properties The properties of the run
+     * @return The generator, or null if the tournament is the built-in one ({@code teams} is 0)
      */
-    private static CompletableFuture<Population> generatePopulation(int from, int to) {
-        return CompletableFuture.supplyAsync(() -> {
-            runAlgorithm(from, to);
-            return population;
-        });
+    private static TournamentGenerator loadGenerator(Properties properties) {
+        try {
+            int teams = Integer.parseInt(properties.getProperty("teams"));
+            if (teams == 0)
+                return null;
+            int venues = Integer.parseInt(properties.getProperty("venues"));
+            TournamentGenerator generator = new TournamentGenerator();
+            generator.setTeams(teams);
+            generator.setVenues(venues == 0 ? teams : venues);
+            generator.setNeutralVenues(Integer.parseInt(properties.getProperty("neutralVenues")));
+            generator.setDays(Integer.parseInt(properties.getProperty("tournamentDays")));
+            generator.setBadWeatherRate(Double.parseDouble(properties.getProperty("badWeatherRate")));
+            generator.setSeed(Long.parseLong(properties.getProperty("tournamentSeed")));
+            return generator;
+        } catch (IllegalArgumentException ex) {
+            log.debug("Exception happened when reading the properties file: " + ex.getMessage());
+            return null;
+        }
     }
 
     /**
-     * Runs the Genetic algorithm for the population
+     * Builds the loader of the data files from the properties
+     *
+     * @param properties The properties of the run
+     * @return The loader, or null if the data set is not read from files ({@code teamsFile} is empty)
      */
-    private static void reproduce() {
-        int generation = 0;
-        Algorithm algorithm = new Algorithm(data);
-
-        while (population.getSchedules().get(0).getFitness() < .5) {
-            population = algorithm.evolve(population).sortByFitness();
+    private static DataLoader loadLoader(Properties properties) {
+        if (properties.getProperty("teamsFile").isEmpty())
+            return null;
+        DataLoader loader = new DataLoader();
+        loader.setVenuesFile(Paths.get(properties.getProperty("venuesFile")));
+        loader.setTeamsFile(Paths.get(properties.getProperty("teamsFile")));
+        loader.setCalendarFile(Paths.get(properties.getProperty("calendarFile")));
+        String forecastFile = properties.getProperty("forecastFile");
+        loader.setForecastFile(forecastFile.isEmpty() ? null : Paths.get(forecastFile));
+        return loader;
+    }
 
-            Schedule best = population.getSchedules().get(0);
-            Schedule worst = population.getSchedules().get(population.size() - 1);
+    /**
+     * This function splits the population into colonies and runs the algorithm on each colony in parallel,
+     * until the termination policy ends the run
+     *
+     * @param problem The problem instance over which the algorithm is run
+     * @param config  The parameters of the run
+     */
+    private static void runAlgorithm(ProblemInstance problem, SolverConfig config) {
+        SolverHandle handle = new Solver().solve(problem, config, Driver::logGeneration);
+        Schedule best = handle.getResult().join();
 
-            System.out.println();
-            log.info("Generation - " + (++generation));
-            log.info("Best Schedule:");
-            log.info(String.format("Fitness = %.5f", best.getFitness()));
-            log.info("Violations = " + best.getViolations());
+        log.info("Stopped: " + handle.getTerminationReason());
+        if (handle.getConstraintStatistics() != null)
+            log.info("Constraint statistics:\n" + handle.getConstraintStatistics());
+        printSchedule(best);
+    }
 
-            log.info("Worst Schedule:");
-            log.info(String.format("Fitness = %.5f", worst.getFitness()));
-            log.info("Violations = " + worst.getViolations());
+    /**
+     * Logs the statistics of the population after a generation
+     *
+     * @param statistics The statistics of the last generation
+     */
+    private static void logGeneration(GenerationStatistics statistics) {
+        System.out.println();
+        log.info("Generation - " + statistics.getGeneration());
+        log.info("Evaluations = " + statistics.getGenerationEvaluations());
+        log.info("Total Evaluations = " + statistics.getEvaluations());
+        log.info(String.format("Best Fitness = %.5f", statistics.getBestFitness()));
+        log.info(String.format("Mean Fitness = %.5f", statistics.getMeanFitness()));
+        log.info(String.format("Worst Fitness = %.5f", statistics.getWorstFitness()));
+    }
 
-            log.info("\n\nBest Schedule:\n");
+    /**
+     * Logs all the matches of a schedule, ordered by date
+     *
+     * @param best The schedule to be printed
+     */
+    private static void printSchedule(Schedule best) {
+        log.info("\n\nBest Schedule:\n");
 
-            log.info("Date\t\t|\tTeam1\t\t\t|\tTeam2\t\t\t|\tLocation");
-            for (int i = 0; i < 120; i++)
-                System.out.print("*");
-            System.out.println();
+        log.info("Date\t\t|\tTeam1\t\t\t|\tTeam2\t\t\t|\tLocation");
+        for (int i = 0; i < 120; i++)
+            System.out.print("*");
+        System.out.println();
 
-            for (Match f : best.getMatchList()) {
-                log.info(f);
-            }
+        List<Match> matches = new ArrayList<>(best.getMatchList());
+        matches.sort(Comparator.comparing(Match::getDate));
+        for (Match f : matches) {
+            log.info(f);
         }
     }
 }
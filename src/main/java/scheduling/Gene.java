@@ -0,0 +1,128 @@
+package scheduling;
+
+import java.util.Arrays;
+
+/**
+ * This class packs a single match (gene) into a primitive {@code int}, so that a whole schedule can be stored as a
+ * flat {@code int[]} instead of a list of {@code Match} objects.
+ * The layout of the bits (most significant first) is:
+ * - 12 bits: Day index (offset in days from the first day of the tournament)
+ * -  6 bits: Id of the home team
+ * -  6 bits: Id of the away team
+ * -  8 bits: Id of the venue
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public final class Gene {
+
+    /**
+     * Number of bits reserved for each field of the gene
+     */
+    private static final int DAY_BITS = 12;
+    private static final int TEAM_BITS = 6;
+    private static final int VENUE_BITS = 8;
+
+    /**
+     * Position of each field inside the gene
+     */
+    private static final int VENUE_SHIFT = 0;
+    private static final int AWAY_SHIFT = VENUE_SHIFT + VENUE_BITS;
+    private static final int HOME_SHIFT = AWAY_SHIFT + TEAM_BITS;
+    private static final int DAY_SHIFT = HOME_SHIFT + TEAM_BITS;
+
+    /**
+     * Largest number of days, teams and venues which can be encoded
+     */
+    public static final int MAX_DAYS = 1 << DAY_BITS;
+    public static final int MAX_TEAMS = 1 << TEAM_BITS;
+    public static final int MAX_VENUES = 1 << VENUE_BITS;
+
+    private static final int TEAM_MASK = MAX_TEAMS - 1;
+    private static final int VENUE_MASK = MAX_VENUES - 1;
+
+    /**
+     * Utility class, no instances
+     */
+    private Gene() {
+    }
+
+    /**
+     * Packs the details of a match into a gene
+     *
+     * @param day   Day index of the match
+     * @param home  Id of the home team
+     * @param away  Id of the away team
+     * @param venue Id of the venue
+     * @return The encoded gene
+     */
+    public static int of(int day, int home, int away, int venue) {
+        return (day << DAY_SHIFT) | (home << HOME_SHIFT) | (away << AWAY_SHIFT) | (venue << VENUE_SHIFT);
+    }
+
+    /**
+     * Gets the day index of the gene
+     *
+     * @param gene The encoded gene
+     * @return Day index of the match
+     */
+    public static int day(int gene) {
+        return gene >>> DAY_SHIFT;
+    }
+
+    /**
+     * Moves a gene to another day
+     *
+     * @param gene The encoded gene
+     * @param day  The new day index
+     * @return The gene with the day replaced
+     */
+    public static int withDay(int gene, int day) {
+        return (gene & ((1 << DAY_SHIFT) - 1)) | (day << DAY_SHIFT);
+    }
+
+    /**
+     * Gets the home team id of the gene
+     *
+     * @param gene The encoded gene
+     * @return Id of the home team
+     */
+    public static int home(int gene) {
+        return (gene >>> HOME_SHIFT) & TEAM_MASK;
+    }
+
+    /**
+     * Gets the away team id of the gene
+     *
+     * @param gene The encoded gene
+     * @return Id of the away team
+     */
+    public static int away(int gene) {
+        return (gene >>> AWAY_SHIFT) & TEAM_MASK;
+    }
+
+    /**
+     * Gets the venue id of the gene
+     *
+     * @param gene The encoded gene
+     * @return Id of the venue
+     */
+    public static int venue(int gene) {
+        return (gene >>> VENUE_SHIFT) & VENUE_MASK;
+    }
+
+    /**
+     * Sorts the genes by their day index. As the day is stored in the most significant bits, sorting the raw values
+     * (compared as unsigned numbers) orders the matches by date.
+     *
+     * @param genes The genes to be sorted
+     */
+    public static void sortByDay(int[] genes) {
+        for (int i = 0; i < genes.length; i++)
+            genes[i] ^= Integer.MIN_VALUE;
+        Arrays.sort(genes);
+        for (int i = 0; i < genes.length; i++)
+            genes[i] ^= Integer.MIN_VALUE;
+    }
+}
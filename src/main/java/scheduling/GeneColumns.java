@@ -0,0 +1,154 @@
+package scheduling;
+
+/**
+ * This class stores the genes of a block of schedules as a structure of arrays: one primitive column for each field
+ * of a gene (day, home team, away team and venue), holding that field for all the genes of all the schedules. The
+ * genes of the schedule in slot {@code s} are at positions {@code s * getGeneCount()} to
+ * {@code (s + 1) * getGeneCount()} (exclusive) of every column.
+ * Reading one field of consecutive genes then walks memory sequentially, in loops the JIT can unroll and vectorise,
+ * which is how the batch evaluator (see {@link scheduling.constraint.BatchEvaluator}) scores a whole block at once.
+ * All the schedules of a store have the same number of genes. A store is not thread-safe.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class GeneColumns {
+
+    /**
+     * Number of schedules the store can hold
+     */
+    private final int capacity;
+
+    /**
+     * Number of genes of each schedule
+     */
+    private final int genes;
+
+    /**
+     * The columns, one value per gene
+     */
+    private final short[] days;
+    private final byte[] homes;
+    private final byte[] aways;
+    private final byte[] venues;
+
+    /**
+     * Creates an empty store
+     *
+     * @param capacity Number of schedules the store can hold
+     * @param genes    Number of genes of each schedule
+     */
+    public GeneColumns(int capacity, int genes) {
+        if ((long) capacity * genes > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Too many genes for one store: " + capacity + " x " + genes);
+        this.capacity = capacity;
+        this.genes = genes;
+        days = new short[capacity * genes];
+        homes = new byte[capacity * genes];
+        aways = new byte[capacity * genes];
+        venues = new byte[capacity * genes];
+    }
+
+    /**
+     * Creates a store holding the genes of all the schedules of a population, in the same order
+     *
+     * @param pop The population, whose schedules all have the same number of genes
+     * @return The store
+     */
+    public static GeneColumns of(Population pop) {
+        GeneColumns columns = new GeneColumns(pop.size(), pop.size() == 0 ? 0 : pop.get(0).size());
+        for (int i = 0; i < pop.size(); i++)
+            columns.load(i, pop.get(i).getGenes());
+        return columns;
+    }
+
+    /**
+     * Splits the genes of a schedule into the columns of a slot
+     *
+     * @param slot  Position of the schedule in the store
+     * @param genes The encoded matches of the schedule
+     */
+    public void load(int slot, int[] genes) {
+        if (genes.length != this.genes)
+            throw new IllegalArgumentException("Expected " + this.genes + " genes, got " + genes.length);
+        int base = slot * this.genes;
+        for (int i = 0; i < genes.length; i++) {
+            int gene = genes[i];
+            days[base + i] = (short) Gene.day(gene);
+            homes[base + i] = (byte) Gene.home(gene);
+            aways[base + i] = (byte) Gene.away(gene);
+            venues[base + i] = (byte) Gene.venue(gene);
+        }
+    }
+
+    /**
+     * Joins the columns of a slot back into genes
+     *
+     * @param slot  Position of the schedule in the store
+     * @param genes Array which is filled with the encoded matches of the schedule
+     */
+    public void store(int slot, int[] genes) {
+        int base = slot * this.genes;
+        for (int i = 0; i < this.genes; i++)
+            genes[i] = Gene.of(day(base + i), home(base + i), away(base + i), venue(base + i));
+    }
+
+    /**
+     * Getter method for {@code capacity}
+     *
+     * @return Number of schedules the store can hold
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Getter method for {@code genes}
+     *
+     * @return Number of genes of each schedule
+     */
+    public int getGeneCount() {
+        return genes;
+    }
+
+    /**
+     * Gets the day index of a gene
+     *
+     * @param position Position of the gene in the columns
+     * @return The day index
+     */
+    public int day(int position) {
+        return days[position];
+    }
+
+    /**
+     * Gets the id of the home team of a gene
+     *
+     * @param position Position of the gene in the columns
+     * @return The team id
+     */
+    public int home(int position) {
+        return homes[position];
+    }
+
+    /**
+     * Gets the id of the away team of a gene
+     *
+     * @param position Position of the gene in the columns
+     * @return The team id
+     */
+    public int away(int position) {
+        return aways[position];
+    }
+
+    /**
+     * Gets the venue id of a gene. Venue ids use all 8 bits of the column.
+     *
+     * @param position Position of the gene in the columns
+     * @return The venue id
+     */
+    public int venue(int position) {
+        return venues[position] & 0xFF;
+    }
+}
@@ -0,0 +1,119 @@
+package scheduling;
+
+/**
+ * This class holds the statistics of the population of a run at the end of a generation, as published to the
+ * listeners of a {@link Solver}
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class GenerationStatistics {
+
+    /**
+     * Member variables holding the statistics
+     */
+    private final int generation;
+    private final double bestFitness;
+    private final double worstFitness;
+    private final double meanFitness;
+    private final long evaluations;
+    private final long generationEvaluations;
+    private final long elapsedMillis;
+
+    /**
+     * Creates the statistics of a generation
+     *
+     * @param generation            Number of generations run so far
+     * @param bestFitness           Fitness of the best schedule found so far
+     * @param worstFitness          Fitness of the worst schedule of the population
+     * @param meanFitness           Mean fitness of the population
+     * @param evaluations           Number of fitness evaluations performed since the start of the run
+     * @param generationEvaluations Number of fitness evaluations performed by this generation
+     * @param elapsedMillis         Wall-clock time since the start of the run in milliseconds
+     */
+    public GenerationStatistics(int generation, double bestFitness, double worstFitness, double meanFitness,
+                                long evaluations, long generationEvaluations, long elapsedMillis) {
+        this.generation = generation;
+        this.bestFitness = bestFitness;
+        this.worstFitness = worstFitness;
+        this.meanFitness = meanFitness;
+        this.evaluations = evaluations;
+        this.generationEvaluations = generationEvaluations;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Getter method for {@code int generation}
+     *
+     * @return Number of generations run so far
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Getter method for {@code double bestFitness}
+     *
+     * @return Fitness of the best schedule found so far
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Getter method for {@code double worstFitness}
+     *
+     * @return Fitness of the worst schedule of the population
+     */
+    public double getWorstFitness() {
+        return worstFitness;
+    }
+
+    /**
+     * Getter method for {@code double meanFitness}
+     *
+     * @return Mean fitness of the population
+     */
+    public double getMeanFitness() {
+        return meanFitness;
+    }
+
+    /**
+     * Getter method for {@code long evaluations}
+     *
+     * @return Number of fitness evaluations performed since the start of the run
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Getter method for {@code long generationEvaluations}
+     *
+     * @return Number of fitness evaluations performed by this generation
+     */
+    public long getGenerationEvaluations() {
+        return generationEvaluations;
+    }
+
+    /**
+     * Getter method for {@code long elapsedMillis}
+     *
+     * @return Wall-clock time since the start of the run in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return String equivalent of the Object
+     */
+    @Override
+    public String toString() {
+        return String.format("generation %d: best %.5f, worst %.5f, mean %.5f, %d evaluations (%d in total), %d ms",
+                generation, bestFitness, worstFitness, meanFitness, generationEvaluations, evaluations, elapsedMillis);
+    }
+}
@@ -0,0 +1,421 @@
+package scheduling;
+
+import scheduling.constraint.ConstraintStatistics;
+import scheduling.constraint.FitnessEvaluator;
+import scheduling.pojo.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This class runs the genetic algorithm as an island model. The population is split into colonies (islands) which
+ * evolve independently, each as a task of the pool with its own scheduling.Algorithm. After every generation the islands
+ * wait for each other, so that the statistics of the whole population are published once per generation, and every
+ * {@code migrationInterval} generations the best schedules of each island migrate to the islands it is connected to,
+ * where they replace the worst schedules.
+ * The schedules of all the islands live in two arrays allocated once per run, the current and the next generation,
+ * of which each island views a range; the two arrays are used in turn from one generation to the next.
+ * No thread is blocked while waiting for the islands: the next generation is started by the completion of the last
+ * island, so many models can share a small pool.
+ * The best schedule found by any island is tracked without locking.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+class IslandModel {
+
+    /**
+     * The problem instance over which the algorithm is run, shared by all the islands
+     */
+    private final ProblemInstance problem;
+
+    /**
+     * The pool on which the islands evolve and their offspring are produced
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Source of random numbers from which the stream of every island is split
+     */
+    private final RandomSource random;
+
+    /**
+     * The colonies of the population, created when the run starts
+     */
+    private Island[] islands;
+
+    /**
+     * The parameters of the run, defining the colonies, the migration and the termination
+     */
+    private final SolverConfig config;
+
+    /**
+     * Statistics of the constraints over all the evaluations of this run, null if they are not recorded
+     */
+    private final ConstraintStatistics constraintStatistics;
+
+    /**
+     * The best schedule found so far by any island
+     */
+    private final AtomicReference<Schedule> best = new AtomicReference<>();
+
+    /**
+     * Number of generations run so far
+     */
+    private int generation;
+
+    /**
+     * Generation at which the best fitness last improved
+     */
+    private int improvedAt;
+
+    /**
+     * Number of fitness evaluations performed by all islands since the start of the run
+     */
+    private long totalEvaluations;
+
+    /**
+     * Start of the current run ({@link System#nanoTime()})
+     */
+    private long start;
+
+    /**
+     * Set when the run has to stop as soon as possible
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Deadline of the current run ({@link System#nanoTime()}), checked by the islands before every generation
+     */
+    private volatile long deadline = Long.MAX_VALUE;
+
+    /**
+     * Fitness at which the islands stop before their next generation
+     */
+    private volatile double targetFitness = Double.POSITIVE_INFINITY;
+
+    /**
+     * The condition which ended the last run
+     */
+    private volatile TerminationPolicy.Reason reason;
+
+    /**
+     * Called after each generation
+     */
+    private Consumer<IslandModel> afterGeneration;
+
+    /**
+     * Completed with the best schedule when the run stops
+     */
+    private final CompletableFuture<Schedule> result = new CompletableFuture<>();
+
+    /**
+     * Creates the model. The islands and their populations are only created when the run starts.
+     *
+     * @param problem The problem instance over which the algorithm is run
+     * @param config  The parameters of the run
+     * @param pool    The pool on which the islands evolve
+     * @param random  Source of random numbers of the run
+     */
+    IslandModel(ProblemInstance problem, SolverConfig config, ForkJoinPool pool, RandomSource random) {
+        this.problem = problem;
+        this.config = config;
+        this.pool = pool;
+        this.random = random;
+        constraintStatistics = config.isConstraintStatistics() ? new ConstraintStatistics(problem.getConstraints()) : null;
+    }
+
+    /**
+     * Starts the run: creates the islands and their random initial populations in parallel, then evolves them until
+     * the termination policy of the config ends the run, or the run is cancelled. The termination policy is checked
+     * after each generation, and the time budget, the target fitness and the cancellation again by every island before
+     * it starts its generation.
+     *
+     * @param afterGeneration Called after each generation, e.g. for reporting the progress, on a thread of the pool
+     * @return The future completed with the best schedule found
+     */
+    CompletableFuture<Schedule> run(Consumer<IslandModel> afterGeneration) {
+        this.afterGeneration = afterGeneration;
+        TerminationPolicy policy = config.getTermination();
+        start = System.nanoTime();
+        deadline = policy.deadline(start);
+        targetFitness = policy.getTargetFitness();
+
+        int populationSize = config.getPopulationSize();
+        int count = Math.max(1, populationSize / config.getColonySize());
+        Schedule[] current = new Schedule[populationSize];
+        Schedule[] next = new Schedule[populationSize];
+        islands = new Island[count];
+        List<CompletableFuture<Void>> futures = new ArrayList<>(count);
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            // Spreading the remainder so that the sizes of the islands differ by at most one
+            int size = populationSize / count + (i < populationSize % count ? 1 : 0);
+            int index = i;
+            Population population = new Population(current, offset, size);
+            Population spare = new Population(next, offset, size);
+            RandomSource islandRandom = random.split();
+            futures.add(CompletableFuture.runAsync(() -> islands[index] = new Island(population, spare, islandRandom), pool));
+            offset += size;
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((v, ex) -> next(ex));
+        return result;
+    }
+
+    /**
+     * Checks the termination policy and either completes the run or evolves every island for the next generation in
+     * parallel, followed by a migration at the end of each migration interval. Called when all the islands have
+     * finished the previous generation.
+     *
+     * @param failure Exception thrown by an island or by the listener, null if none
+     */
+    private void next(Throwable failure) {
+        try {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            TerminationPolicy policy = config.getTermination();
+            reason = cancelled ? TerminationPolicy.Reason.CANCELLED : policy.check(generation, getElapsedMillis(),
+                    getBest().getFitness(), generation - improvedAt);
+            if (reason != null) {
+                result.complete(getBest());
+                return;
+            }
+
+            double bestFitness = getBest().getFitness();
+
+            List<CompletableFuture<Boolean>> futures = new ArrayList<>(islands.length);
+            for (Island island : islands)
+                futures.add(CompletableFuture.supplyAsync(island::evolveGeneration, pool));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenCompleteAsync((v, ex) -> {
+                // Islands stopped by the deadline or the target do not run the generation, which is not published
+                // if none of them ran it
+                if (ex == null && futures.stream().anyMatch(CompletableFuture::join)) {
+                    generation++;
+                    totalEvaluations += getEvaluations();
+                    if (getBest().getFitness() > bestFitness)
+                        improvedAt = generation;
+
+                    int interval = config.getMigrationInterval();
+                    if (interval > 0 && generation % interval == 0)
+                        migrate();
+                    try {
+                        this.afterGeneration.accept(this);
+                    } catch (RuntimeException listenerFailure) {
+                        ex = listenerFailure;
+                    }
+                }
+                next(ex);
+            }, pool);
+        } catch (RuntimeException ex) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Stops the run as soon as every island has finished its current generation
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Sends copies of the best schedules of each island to the islands it is connected to. All the migrants are
+     * chosen before any island receives them, so the order of the islands does not matter.
+     */
+    private void migrate() {
+        List<List<Schedule>> emigrants = new ArrayList<>();
+        for (Island island : islands) {
+            List<Schedule> bestOfIsland = new ArrayList<>();
+            int migrants = Math.min(config.getMigrationSize(), island.population.size());
+            Ranking ranking = island.population.rankTop(migrants);
+            for (int i = 0; i < migrants; i++)
+                bestOfIsland.add(ranking.get(i).copy());
+            emigrants.add(bestOfIsland);
+        }
+
+        for (int to = 0; to < islands.length; to++) {
+            List<Schedule> immigrants = new ArrayList<>();
+            for (int from = 0; from < islands.length; from++) {
+                if (config.getMigrationTopology().connects(from, to, islands.length))
+                    immigrants.addAll(emigrants.get(from));
+            }
+            // The worst schedules make room for the migrants
+            islands[to].population.admit(immigrants);
+        }
+    }
+
+    /**
+     * Records a schedule as the best one found so far if it is better than the current best
+     *
+     * @param candidate A schedule whose fitness has been computed
+     */
+    private void offer(Schedule candidate) {
+        Schedule current = best.get();
+        if (current != null && current.getFitness() >= candidate.getFitness())
+            return;
+
+        Schedule copy = candidate.copy();
+        while (!best.compareAndSet(current, copy)) {
+            current = best.get();
+            if (current.getFitness() >= copy.getFitness())
+                return;
+        }
+    }
+
+    /**
+     * Gets the best schedule found so far by any island
+     *
+     * @return The best schedule, or null while the initial populations are created
+     */
+    Schedule getBest() {
+        return best.get();
+    }
+
+    /**
+     * Gets the worst schedule of the current populations
+     *
+     * @return The worst schedule
+     */
+    Schedule getWorst() {
+        Schedule worst = null;
+        for (Island island : islands) {
+            Schedule s = island.population.getLeastFit();
+            if (worst == null || s.getFitness() < worst.getFitness())
+                worst = s;
+        }
+        return worst;
+    }
+
+    /**
+     * Gets the number of generations run so far
+     *
+     * @return Number of generations
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the number of fitness evaluations performed by all islands in the last generation
+     *
+     * @return Number of evaluations
+     */
+    long getEvaluations() {
+        long evaluations = 0;
+        for (Island island : islands)
+            evaluations += island.evaluations;
+        return evaluations;
+    }
+
+    /**
+     * Gets the statistics of the current populations of all the islands
+     *
+     * @return The statistics of the last generation
+     */
+    GenerationStatistics getStatistics() {
+        double sum = 0;
+        int size = 0;
+        for (Island island : islands) {
+            for (int i = 0; i < island.population.size(); i++)
+                sum += island.population.get(i).getFitness();
+            size += island.population.size();
+        }
+        return new GenerationStatistics(generation, getBest().getFitness(), getWorst().getFitness(), sum / size,
+                totalEvaluations, getEvaluations(), getElapsedMillis());
+    }
+
+    /**
+     * Getter method for {@code ConstraintStatistics constraintStatistics}
+     *
+     * @return Statistics of the constraints over all the evaluations of this run, null if they are not recorded
+     */
+    ConstraintStatistics getConstraintStatistics() {
+        return constraintStatistics;
+    }
+
+    /**
+     * Gets the wall-clock time since the start of the run
+     *
+     * @return Elapsed time in milliseconds
+     */
+    private long getElapsedMillis() {
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    /**
+     * Gets the condition which ended the run
+     *
+     * @return The termination reason, null while running
+     */
+    TerminationPolicy.Reason getTerminationReason() {
+        return reason;
+    }
+
+    /**
+     * Gets the number of islands
+     *
+     * @return Number of islands
+     */
+    int size() {
+        return Math.max(1, config.getPopulationSize() / config.getColonySize());
+    }
+
+    /**
+     * A single colony with its own population, algorithm and source of random numbers
+     */
+    private class Island {
+        private Population population;
+        private Population spare;
+        private final Algorithm algorithm;
+        private long evaluations;
+
+        /**
+         * Creates an island and fills its population with random schedules
+         *
+         * @param population The range of the current generation owned by the island
+         * @param spare      The range of the next generation owned by the island
+         * @param random     Source of random numbers of the island
+         */
+        private Island(Population population, Population spare, RandomSource random) {
+            this.population = population;
+            this.spare = spare;
+            population.fill(problem, random);
+            FitnessEvaluator evaluator = FitnessEvaluator.forCurrentThread();
+            ConstraintStatistics previous = evaluator.getStatistics();
+            evaluator.setStatistics(constraintStatistics);
+            try {
+                population.evaluate();
+            } finally {
+                evaluator.setStatistics(previous);
+            }
+            algorithm = new Algorithm(problem, config, pool, random.split(), constraintStatistics);
+            offer(population.getFittest());
+        }
+
+        /**
+         * Evolves the population of this island by one generation, unless the run is cancelled, the deadline has
+         * passed or the target fitness has been reached by any island
+         *
+         * @return true if the generation was run
+         */
+        private boolean evolveGeneration() {
+            evaluations = 0;
+            if (cancelled || (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+                    || getBest().getFitness() >= targetFitness)
+                return false;
+            Population next = algorithm.evolve(population, spare);
+            spare = population;
+            population = next;
+            evaluations = algorithm.getEvaluations();
+            offer(population.getFittest());
+            return true;
+        }
+    }
+}
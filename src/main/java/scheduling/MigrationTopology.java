@@ -0,0 +1,47 @@
+package scheduling;
+
+/**
+ * The ways the colonies of the island model are connected. Migrants travel from an island to every island it is
+ * connected to.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public enum MigrationTopology {
+    /**
+     * Each island sends its migrants to the next island, the last one to the first one
+     */
+    RING,
+
+    /**
+     * The first island exchanges migrants with all the other islands, which are not connected to each other
+     */
+    STAR,
+
+    /**
+     * Each island sends its migrants to all the other islands
+     */
+    FULLY_CONNECTED;
+
+    /**
+     * Checks whether migrants travel from one island to another
+     *
+     * @param from    Index of the island sending the migrants
+     * @param to      Index of the island receiving the migrants
+     * @param islands Total number of islands
+     * @return true if the first island sends migrants to the second one
+     */
+    public boolean connects(int from, int to, int islands) {
+        if (from == to)
+            return false;
+        switch (this) {
+            case RING:
+                return to == (from + 1) % islands;
+            case STAR:
+                return from == 0 || to == 0;
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package scheduling;
+
+import scheduling.pojo.Schedule;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * This class stores a population outside of the Java heap, for runs with millions of schedules. Each schedule takes
+ * a fixed number of bytes (its stride) in direct buffers: its number of violations followed by its genes (see
+ * {@link Gene}), so the heap only holds a few objects whatever the size of the population, and the garbage collector
+ * has nothing to trace or copy. The size of a population is then limited by the memory allowed for direct buffers
+ * ({@code -XX:MaxDirectMemorySize}, the maximum heap size by default) rather than by the heap.
+ * Two regions are allocated once: the current generation, and the next one which is written by the genetic
+ * operators and becomes the current one with {@link #swap()}. The operators work on schedules by their index.
+ * A population is not thread-safe.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class OffHeapPopulation {
+
+    /**
+     * Number of violations stored for a schedule which has not been evaluated yet
+     */
+    private static final int NOT_EVALUATED = -1;
+
+    /**
+     * The problem instance of the schedules
+     */
+    private final ProblemInstance problem;
+
+    /**
+     * Number of schedules
+     */
+    private final int size;
+
+    /**
+     * Number of genes of each schedule
+     */
+    private final int genes;
+
+    /**
+     * Number of bytes taken by each schedule: the violations and the genes
+     */
+    private final int stride;
+
+    /**
+     * Number of schedules in each buffer, a single buffer being limited to 2 GB
+     */
+    private final int perSegment;
+
+    /**
+     * The buffers of the current and the next generation
+     */
+    private ByteBuffer[] current;
+    private ByteBuffer[] next;
+
+    /**
+     * Keys of the schedules of the current generation, ranked by {@link #rank()}: the violations in the high 32 bits
+     * and the index in the low 32 bits
+     */
+    private final long[] keys;
+
+    /**
+     * Scratch space for the genes of a schedule being evaluated, and the schedule wrapping it
+     */
+    private final int[] scratch;
+    private final Schedule evaluated;
+
+    /**
+     * Allocates the two generations of a population. The schedules have to be filled with {@link #fill(RandomSource)}.
+     *
+     * @param problem The problem instance of the schedules
+     * @param size    Number of schedules
+     */
+    public OffHeapPopulation(ProblemInstance problem, int size) {
+        this.problem = problem;
+        this.size = size;
+        genes = problem.getTeamCount() * (problem.getTeamCount() - 1);
+        stride = Integer.BYTES * (1 + genes);
+        perSegment = Integer.MAX_VALUE / stride;
+        current = allocate();
+        next = allocate();
+        keys = new long[size];
+        scratch = new int[genes];
+        evaluated = new Schedule(problem, scratch);
+    }
+
+    /**
+     * Allocates the buffers of one generation
+     *
+     * @return The buffers
+     */
+    private ByteBuffer[] allocate() {
+        ByteBuffer[] buffers = new ByteBuffer[(size + perSegment - 1) / perSegment];
+        for (int i = 0; i < buffers.length; i++) {
+            int slots = Math.min(perSegment, size - i * perSegment);
+            buffers[i] = ByteBuffer.allocateDirect(slots * stride).order(ByteOrder.nativeOrder());
+        }
+        return buffers;
+    }
+
+    /**
+     * Fills the current generation with random schedules and evaluates them
+     *
+     * @param random Source of random numbers of the calling thread
+     */
+    public void fill(RandomSource random) {
+        for (int index = 0; index < size; index++) {
+            for (int i = 0; i < genes; i++)
+                scratch[i] = problem.randomGene(random);
+            store(current, index, scratch, countViolations());
+        }
+    }
+
+    /**
+     * Gets the number of schedules
+     *
+     * @return Size of the population
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes allocated outside of the heap for both generations
+     *
+     * @return Number of bytes
+     */
+    public long getByteSize() {
+        return 2L * size * stride;
+    }
+
+    /**
+     * Gets the number of violations of a schedule of the current generation
+     *
+     * @param index Index of the schedule
+     * @return Number of violations
+     */
+    public int getViolations(int index) {
+        return segment(current, index).getInt(offset(index));
+    }
+
+    /**
+     * Gets the fitness of a schedule of the current generation
+     *
+     * @param index Index of the schedule
+     * @return Fitness of the schedule
+     */
+    public double getFitness(int index) {
+        return (double) 1 / (1 + getViolations(index));
+    }
+
+    /**
+     * Gets a gene of a schedule of the current generation
+     *
+     * @param index    Index of the schedule
+     * @param position Position of the gene
+     * @return The encoded match
+     */
+    public int getGene(int index, int position) {
+        return segment(current, index).getInt(offset(index) + Integer.BYTES * (1 + position));
+    }
+
+    /**
+     * Finds the fittest schedule of the current generation
+     *
+     * @return Index of the fittest schedule, the first one if several are equally fit
+     */
+    public int getFittest() {
+        int fittest = 0;
+        for (int index = 1; index < size; index++)
+            if (getViolations(index) < getViolations(fittest))
+                fittest = index;
+        return fittest;
+    }
+
+    /**
+     * Copies a schedule of the current generation onto the heap
+     *
+     * @param index Index of the schedule
+     * @return The schedule, already evaluated
+     */
+    public Schedule toSchedule(int index) {
+        int[] copy = new int[genes];
+        load(current, index, copy);
+        Schedule schedule = new Schedule(problem, copy);
+        schedule.setViolations(getViolations(index));
+        return schedule;
+    }
+
+    /**
+     * Ranks the current generation from the fittest to the least fit, for {@link #getRanked(int)} and
+     * {@link #tournament(int, int, RandomSource)}
+     */
+    public void rank() {
+        for (int index = 0; index < size; index++)
+            keys[index] = ((long) getViolations(index) << 32) | index;
+        if (size >= Ranking.PARALLEL_THRESHOLD)
+            Arrays.parallelSort(keys);
+        else
+            Arrays.sort(keys);
+    }
+
+    /**
+     * Gets the schedule of the current generation with a rank
+     *
+     * @param rank Rank of the schedule, 0 for the fittest
+     * @return Index of the schedule
+     */
+    public int getRanked(int rank) {
+        return (int) keys[rank];
+    }
+
+    /**
+     * Runs a tournament among the best ranked schedules of the current generation: the fittest of
+     * {@code tournamentSize} schedules picked at random. The generation must have been ranked.
+     *
+     * @param candidates     Number of best ranked schedules taking part
+     * @param tournamentSize Number of schedules competing
+     * @param random         Source of random numbers of the calling thread
+     * @return Index of the winner
+     */
+    public int tournament(int candidates, int tournamentSize, RandomSource random) {
+        int best = random.nextInt(candidates);
+        for (int i = 1; i < tournamentSize; i++)
+            best = Math.min(best, random.nextInt(candidates));
+        return getRanked(best);
+    }
+
+    /**
+     * Copies a schedule of the current generation unchanged into the next generation
+     *
+     * @param index Index of the schedule in the current generation
+     * @param child Index of the copy in the next generation
+     */
+    public void copy(int index, int child) {
+        load(current, index, scratch);
+        store(next, child, scratch, getViolations(index));
+    }
+
+    /**
+     * Writes the two children of a single point crossover of two schedules of the current generation into the next
+     * generation: the genes up to a random point are swapped, the rest are kept. The children are not evaluated.
+     *
+     * @param parent1 Index of the first parent in the current generation
+     * @param parent2 Index of the second parent in the current generation
+     * @param child1  Index of the first child in the next generation
+     * @param child2  Index of the second child in the next generation, ignored if negative
+     * @param random  Source of random numbers of the calling thread
+     */
+    public void crossover(int parent1, int parent2, int child1, int child2, RandomSource random) {
+        int point = random.nextInt(genes);
+        ByteBuffer from1 = segment(current, parent1);
+        ByteBuffer from2 = segment(current, parent2);
+        ByteBuffer to1 = segment(next, child1);
+        ByteBuffer to2 = child2 < 0 ? null : segment(next, child2);
+        int base1 = offset(parent1) + Integer.BYTES;
+        int base2 = offset(parent2) + Integer.BYTES;
+        int out1 = offset(child1) + Integer.BYTES;
+        int out2 = child2 < 0 ? 0 : offset(child2) + Integer.BYTES;
+        for (int i = 0; i < genes; i++) {
+            int gene1 = from1.getInt(base1 + Integer.BYTES * i);
+            int gene2 = from2.getInt(base2 + Integer.BYTES * i);
+            to1.putInt(out1 + Integer.BYTES * i, i <= point ? gene2 : gene1);
+            if (to2 != null)
+                to2.putInt(out2 + Integer.BYTES * i, i <= point ? gene1 : gene2);
+        }
+        to1.putInt(offset(child1), NOT_EVALUATED);
+        if (to2 != null)
+            to2.putInt(offset(child2), NOT_EVALUATED);
+    }
+
+    /**
+     * Replaces each gene of a schedule of the next generation by a random match with a probability
+     *
+     * @param child        Index of the schedule in the next generation
+     * @param mutationRate Probability of each gene to be replaced
+     * @param random       Source of random numbers of the calling thread
+     */
+    public void mutate(int child, double mutationRate, RandomSource random) {
+        ByteBuffer buffer = segment(next, child);
+        int base = offset(child) + Integer.BYTES;
+        for (int i = 0; i < genes; i++) {
+            if (random.nextDouble() <= mutationRate) {
+                buffer.putInt(base + Integer.BYTES * i, problem.randomGene(random));
+                buffer.putInt(offset(child), NOT_EVALUATED);
+            }
+        }
+    }
+
+    /**
+     * Computes the violations of a schedule of the next generation if it has not been evaluated yet
+     *
+     * @param child Index of the schedule in the next generation
+     * @return true if the schedule had to be evaluated
+     */
+    public boolean evaluate(int child) {
+        if (segment(next, child).getInt(offset(child)) != NOT_EVALUATED)
+            return false;
+        load(next, child, scratch);
+        segment(next, child).putInt(offset(child), countViolations());
+        return true;
+    }
+
+    /**
+     * Makes the next generation the current one. The buffers of the previous generation are reused for the next one.
+     */
+    public void swap() {
+        ByteBuffer[] temp = current;
+        current = next;
+        next = temp;
+    }
+
+    /**
+     * Runs one generation with tournament selection, as {@link Algorithm} does on a {@link Population}: the best
+     * schedules survive, the others are replaced by mutated children of parents picked among the best ranked ones.
+     *
+     * @param config The parameters of the run
+     * @param random Source of random numbers of the calling thread
+     * @return Number of fitness evaluations performed
+     */
+    public int evolve(SolverConfig config, RandomSource random) {
+        rank();
+        int survivors = config.getReplacement().survivors(size);
+        int candidates = Selection.candidates(size, config.getCullingRate());
+        for (int i = 0; i < survivors; i++)
+            copy(getRanked(i), i);
+
+        int evaluations = 0;
+        for (int child = survivors; child < size; child += 2) {
+            int second = child + 1 < size ? child + 1 : -1;
+            crossover(tournament(candidates, config.getTournamentSize(), random),
+                    tournament(candidates, config.getTournamentSize(), random), child, second, random);
+            for (int c = child; c <= child + 1 && c < size; c++) {
+                mutate(c, config.getMutationRate(), random);
+                if (evaluate(c))
+                    evaluations++;
+            }
+        }
+        swap();
+        return evaluations;
+    }
+
+    /**
+     * Counts the violations of the genes held in the scratch space
+     *
+     * @return Number of violations
+     */
+    private int countViolations() {
+        evaluated.computeFitness();
+        return evaluated.getViolations();
+    }
+
+    /**
+     * Reads the genes of a schedule
+     *
+     * @param generation The buffers of the generation
+     * @param index      Index of the schedule
+     * @param genes      Array which is filled with the genes
+     */
+    private void load(ByteBuffer[] generation, int index, int[] genes) {
+        ByteBuffer buffer = segment(generation, index);
+        int base = offset(index) + Integer.BYTES;
+        for (int i = 0; i < this.genes; i++)
+            genes[i] = buffer.getInt(base + Integer.BYTES * i);
+    }
+
+    /**
+     * Writes a schedule
+     *
+     * @param generation The buffers of the generation
+     * @param index      Index of the schedule
+     * @param genes      The genes of the schedule
+     * @param violations The number of violations of the schedule
+     */
+    private void store(ByteBuffer[] generation, int index, int[] genes, int violations) {
+        ByteBuffer buffer = segment(generation, index);
+        int base = offset(index);
+        buffer.putInt(base, violations);
+        for (int i = 0; i < this.genes; i++)
+            buffer.putInt(base + Integer.BYTES * (1 + i), genes[i]);
+    }
+
+    /**
+     * Gets the buffer holding a schedule
+     *
+     * @param generation The buffers of the generation
+     * @param index      Index of the schedule
+     * @return The buffer
+     */
+    private ByteBuffer segment(ByteBuffer[] generation, int index) {
+        return generation[index / perSegment];
+    }
+
+    /**
+     * Gets the position of a schedule in its buffer
+     *
+     * @param index Index of the schedule
+     * @return Position of the first byte of the schedule
+     */
+    private int offset(int index) {
+        return (index % perSegment) * stride;
+    }
+}
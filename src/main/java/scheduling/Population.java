@@ -3,9 +3,15 @@ package scheduling;
 import scheduling.pojo.Schedule;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 /**
- * This class contains randomely generated collection of schedules
+ * This class contains randomely generated collection of schedules.
+ * A population is a view of a range of slots of an array (the arena), so the colonies of a run can share one array
+ * allocated once for the whole run, without copying the schedules when they are split or merged. The size of a
+ * population is fixed by its range; only a population created empty can be filled with {@link #addSchedule(Schedule)}.
  *
  * @author Rupam Tiwari, Utkarsha Pampatwar
  * @version 1.0
@@ -15,9 +21,35 @@ import java.util.ArrayList;
 public class Population {
 
     /**
-     * An list of all possible schedules
+     * Orders the schedules from the fittest to the least fit. The fitness only depends on the number of violations,
+     * which are compared exactly.
      */
-    private ArrayList<Schedule> schedules;
+    private static final Comparator<Schedule> BY_FITNESS = Comparator.comparingInt(Schedule::getViolations);
+
+    /**
+     * The array holding the schedules of this population
+     */
+    private final Schedule[] arena;
+
+    /**
+     * Position of the first schedule of this population in the arena
+     */
+    private final int offset;
+
+    /**
+     * Number of slots of the arena belonging to this population
+     */
+    private final int capacity;
+
+    /**
+     * Number of schedules in this population
+     */
+    private int size;
+
+    /**
+     * The ranking of this population, reused by every call to {@link #rankTop(int)}
+     */
+    private Ranking ranking;
 
     /**
      * Parametrized constructor. Initializes with the parameters passed.
@@ -27,22 +59,72 @@ public class Population {
      * @param initialize Indicates whether to initiate with random data
      */
     public Population(int size, Data data, boolean initialize) {
-        schedules = new ArrayList(size);
+        this(new Schedule[size], 0, size);
         if (initialize)
             for (int i = 0; i < size; i++)
-                schedules.add(new Schedule(data));
+                arena[i] = new Schedule(data.getInstance());
+        else
+            this.size = 0;
+    }
+
+    /**
+     * Initializes a population of random schedules drawn from the random source passed
+     *
+     * @param size   Size of the population
+     * @param data   The whole data set
+     * @param random Source of random numbers of the calling thread
+     */
+    public Population(int size, Data data, RandomSource random) {
+        this(size, data.getInstance(), random);
+    }
+
+    /**
+     * Initializes a population of random schedules for a problem instance, drawn from the random source passed
+     *
+     * @param size    Size of the population
+     * @param problem The problem instance
+     * @param random  Source of random numbers of the calling thread
+     */
+    public Population(int size, ProblemInstance problem, RandomSource random) {
+        this(new Schedule[size], 0, size);
+        fill(problem, random);
     }
 
     /**
-     * Initialize a new population with two list of schedules
+     * Initialize a new population with the schedules passed. The array is used as the arena, it is not copied.
      *
-     * @param s1 List 1 of schedule
-     * @param s2 List 2 of schedule
+     * @param schedules The schedules of the population
      */
-    public Population(ArrayList<Schedule> s1, ArrayList<Schedule> s2) {
-        schedules = new ArrayList();
-        schedules.addAll(s1);
-        schedules.addAll(s2);
+    public Population(Schedule[] schedules) {
+        this(schedules, 0, schedules.length);
+    }
+
+    /**
+     * Creates a population viewing a range of an arena. The schedules are neither copied nor created, the slots
+     * which are still empty have to be filled before the population is used.
+     *
+     * @param arena  The array holding the schedules
+     * @param offset Position of the first schedule of the population in the arena
+     * @param length Number of schedules of the population
+     */
+    public Population(Schedule[] arena, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > arena.length)
+            throw new IllegalArgumentException("Range " + offset + "+" + length + " is outside of the arena");
+        this.arena = arena;
+        this.offset = offset;
+        this.capacity = length;
+        this.size = length;
+    }
+
+    /**
+     * Fills every slot of this population with a random schedule
+     *
+     * @param problem The problem instance
+     * @param random  Source of random numbers of the calling thread
+     */
+    public void fill(ProblemInstance problem, RandomSource random) {
+        for (int i = 0; i < size; i++)
+            arena[offset + i] = new Schedule(problem, random);
     }
 
     /**
@@ -51,7 +133,7 @@ public class Population {
      * @return size of the population
      */
     public int size() {
-        return schedules.size();
+        return size;
     }
 
     /**
@@ -60,44 +142,152 @@ public class Population {
      * @param s The schedule that has to be added
      */
     public void addSchedule(Schedule s) {
-        schedules.add(s);
+        if (size == capacity)
+            throw new IllegalStateException("Population is full: " + capacity + " schedules");
+        arena[offset + size++] = s;
     }
 
     /**
-     * Get all the schedules in this population
+     * Gets a schedule of this population
+     *
+     * @param index Position of the schedule in the population
+     * @return The schedule
+     */
+    public Schedule get(int index) {
+        return arena[offset + index];
+    }
+
+    /**
+     * Replaces a schedule of this population
+     *
+     * @param index    Position of the schedule in the population
+     * @param schedule The new schedule
+     */
+    public void set(int index, Schedule schedule) {
+        arena[offset + index] = schedule;
+    }
+
+    /**
+     * Get all the schedules in this population. The list is a copy, changing it does not change the population.
      *
      * @return List of all schedules
      */
     public ArrayList<Schedule> getSchedules() {
-        return schedules;
+        return new ArrayList<>(Arrays.asList(arena).subList(offset, offset + size));
     }
 
     /**
-     * To find the schedule with the best fit
+     * Computes the fitness of every schedule whose genes have changed since its last evaluation
      *
-     * @return the best fitting schedule
+     * @return Number of schedules that had to be evaluated
+     */
+    public int evaluate() {
+        int evaluations = 0;
+        for (int i = offset; i < offset + size; i++)
+            if (arena[i].evaluate())
+                evaluations++;
+        return evaluations;
+    }
+
+    /**
+     * To find the schedule with the best fit. The population is scanned once, it is not sorted.
+     *
+     * @return the best fitting schedule, the first one if several are equally fit
      */
     public Schedule getFittest() {
-        return sortByFitness().getSchedules().get(0);
+        Schedule fittest = get(0);
+        for (int i = offset + 1; i < offset + size; i++)
+            if (arena[i].getViolations() < fittest.getViolations())
+                fittest = arena[i];
+        return fittest;
     }
 
     /**
-     * Sort the population by fitness of each solution
+     * To find the schedule with the worst fit. The population is scanned once, it is not sorted.
+     *
+     * @return the least fitting schedule, the last one if several are equally fit
+     */
+    public Schedule getLeastFit() {
+        Schedule leastFit = get(0);
+        for (int i = offset + 1; i < offset + size; i++)
+            if (arena[i].getViolations() >= leastFit.getViolations())
+                leastFit = arena[i];
+        return leastFit;
+    }
+
+    /**
+     * Ranks the whole population without moving the schedules
+     *
+     * @return The ranking of every schedule, valid until the population is ranked again
+     */
+    Ranking rank() {
+        return rankTop(size);
+    }
+
+    /**
+     * Ranks the best schedules of this population without moving them. Only the {@code k} first ranks are exact,
+     * the other schedules are only known to be less fit, which costs O(n) plus the sort of the {@code k} best.
+     *
+     * @param k Number of schedules whose rank must be exact
+     * @return The ranking, valid until the population is ranked again
+     */
+    Ranking rankTop(int k) {
+        return rankTop(k, k);
+    }
+
+    /**
+     * Ranks the best schedules of this population without moving them, and separates the best {@code kept} schedules
+     * from the others: only the {@code k} first ranks are exact, the ranks below {@code kept} hold the next best
+     * schedules in any order. This costs O(n) plus the sort of the {@code k} best.
+     *
+     * @param k    Number of schedules whose rank must be exact
+     * @param kept Number of best schedules separated from the others
+     * @return The ranking, valid until the population is ranked again
+     */
+    Ranking rankTop(int k, int kept) {
+        if (ranking == null)
+            ranking = new Ranking(this);
+        ranking.rank(k, kept);
+        return ranking;
+    }
+
+    /**
+     * Sort the population by fitness of each solution. Schedules which are equally fit keep their order.
      *
      * @return The instance with sorted population
      */
     public Population sortByFitness() {
-        schedules.sort((schedule1, schedule2) -> {
-            if (Math.abs(schedule1.getFitness() - schedule2.getFitness()) < .000000001) {
-                return 0;
-            } else if (schedule1.getFitness() > schedule2.getFitness()) {
-                return -1;
-            } else if (schedule1.getFitness() < schedule2.getFitness()) {
-                return 1;
-            }
-            return 0;
-        });
+        Ranking ranked = rank();
+        Schedule[] sorted = new Schedule[size];
+        for (int i = 0; i < size; i++)
+            sorted[i] = ranked.get(i);
+        System.arraycopy(sorted, 0, arena, offset, size);
         return this;
     }
 
+    /**
+     * Lets migrants into this population, which keeps its size: the population ends up with the best schedules of
+     * both. Only the worst schedules of the population, as many as there are migrants, can be replaced, so only
+     * those are compared with the migrants, and the other schedules are not moved.
+     *
+     * @param migrants The schedules joining the population
+     * @return The instance with the migrants let in
+     */
+    public Population admit(List<Schedule> migrants) {
+        int tail = Math.min(migrants.size(), size);
+        // The worst schedules only have to be separated from the others, which are not ordered
+        Ranking ranked = rankTop(0, size - tail);
+        int[] slots = new int[tail];
+        Schedule[] candidates = new Schedule[tail + migrants.size()];
+        for (int i = 0; i < tail; i++) {
+            slots[i] = ranked.index(size - tail + i);
+            candidates[i] = get(slots[i]);
+        }
+        for (int i = 0; i < migrants.size(); i++)
+            candidates[tail + i] = migrants.get(i);
+        Arrays.sort(candidates, BY_FITNESS);
+        for (int i = 0; i < tail; i++)
+            set(slots[i], candidates[i]);
+        return this;
+    }
 }
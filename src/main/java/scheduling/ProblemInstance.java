@@ -0,0 +1,393 @@
+package scheduling;
+
+import scheduling.constraint.ConstraintSet;
+import scheduling.pojo.Location;
+import scheduling.pojo.Match;
+import scheduling.pojo.Team;
+
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is a frozen snapshot of a {@link Data} set, in the form used by the algorithm: the teams and locations
+ * with their ids in a gene, the days of the tournament window, the weather matrix and the table of candidate genes.
+ * A snapshot is built once, when the data set has been filled, and is never modified afterwards, so it is shared by
+ * all the threads, colonies and schedules of any number of runs without copying or locking.
+ * The arrays returned by the getters must not be modified.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public final class ProblemInstance {
+
+    /**
+     * The teams and locations, indexed by their id in a gene
+     */
+    private final Team[] teams;
+    private final Location[] locations;
+
+    /**
+     * Id in a gene of every team and location, which is their position in the lists of the data set
+     */
+    private final Map<Team, Integer> teamIds;
+    private final Map<Location, Integer> locationIds;
+
+    /**
+     * Id of the home ground of each team
+     */
+    private final int[] homeGroundIds;
+
+    /**
+     * Number of matches each location should host: the home matches of all the teams playing there
+     */
+    private final int[] venueLoads;
+
+    /**
+     * Every valid match without its day, see {@link #getCandidateGenes()}
+     */
+    private final int[] candidates;
+
+    /**
+     * Day index of every possible match date
+     */
+    private final int[] dayIndices;
+
+    /**
+     * Date of every day of the tournament window, null for the days on which no match can be played
+     */
+    private final Date[] calendar;
+
+    /**
+     * Epoch day of the first day of the tournament window
+     */
+    private final long firstDay;
+
+    /**
+     * Probability of rain and bad weather for every day and location, see {@link #getWeatherMatrix()}
+     */
+    private final int[] weatherMatrix;
+    private final BitSet badWeather;
+
+    /**
+     * The constraints a schedule of this problem should satisfy, a frozen copy of those of the data set
+     */
+    private final ConstraintSet constraints;
+
+    /**
+     * Time taken to build this snapshot
+     */
+    private final long buildNanos;
+
+    /**
+     * Builds the snapshot of the current content of a data set
+     *
+     * @param data The data set
+     */
+    ProblemInstance(Data data) {
+        long start = System.nanoTime();
+        List<Team> teamList = data.getTeamList();
+        List<Location> locationList = data.getLocationList();
+        List<Date> dates = data.getDates();
+        if (teamList.size() > Gene.MAX_TEAMS || locationList.size() > Gene.MAX_VENUES)
+            throw new IllegalStateException("Too many teams or locations to be encoded in a gene");
+
+        teams = teamList.toArray(new Team[0]);
+        locations = locationList.toArray(new Location[0]);
+
+        locationIds = new HashMap<>();
+        for (int i = 0; i < locations.length; i++)
+            if (locationIds.put(locations[i], i) != null)
+                throw new IllegalStateException("Duplicate location: " + locations[i]);
+
+        teamIds = new HashMap<>();
+        homeGroundIds = new int[teams.length];
+        for (int i = 0; i < teams.length; i++) {
+            if (teamIds.put(teams[i], i) != null)
+                throw new IllegalStateException("Duplicate team: " + teams[i]);
+            homeGroundIds[i] = venueOf(teams[i].getHomeGround());
+            if (homeGroundIds[i] < 0)
+                throw new IllegalStateException("The home ground of team " + teams[i] + " is not a location of the "
+                        + "data set: " + teams[i].getHomeGround());
+        }
+
+        venueLoads = new int[locations.length];
+        for (int homeGround : homeGroundIds)
+            venueLoads[homeGround] += teams.length - 1;
+
+        candidates = new int[teams.length * (teams.length - 1)];
+        int count = 0;
+        for (int home = 0; home < teams.length; home++)
+            for (int away = 0; away < teams.length; away++)
+                if (home != away)
+                    candidates[count++] = Gene.of(0, home, away, homeGroundIds[home]);
+
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Date d : dates) {
+            first = Math.min(first, epochDay(d));
+            last = Math.max(last, epochDay(d));
+        }
+        firstDay = first;
+        if (dates.isEmpty() || last - first >= Gene.MAX_DAYS)
+            throw new IllegalStateException("The dates do not fit in a gene: " + dates.size() + " dates");
+
+        calendar = new Date[(int) (last - first + 1)];
+        dayIndices = new int[dates.size()];
+        for (int i = 0; i < dates.size(); i++) {
+            dayIndices[i] = (int) (epochDay(dates.get(i)) - firstDay);
+            calendar[dayIndices[i]] = (Date) dates.get(i).clone();
+        }
+
+        // A data set loaded from files comes with the matrix, otherwise the weather map is read once here
+        int venues = locations.length;
+        weatherMatrix = new int[calendar.length * venues];
+        badWeather = new BitSet(weatherMatrix.length);
+        int[] rainMatrix = data.getRainMatrix();
+        if (rainMatrix != null) {
+            if (rainMatrix.length != weatherMatrix.length)
+                throw new IllegalStateException("The rain matrix does not match the dates and locations");
+            System.arraycopy(rainMatrix, 0, weatherMatrix, 0, weatherMatrix.length);
+        } else {
+            // The weather map is keyed by the formatted date
+            SimpleDateFormat format = (SimpleDateFormat) Data.dateFormat.clone();
+            for (int day = 0; day < calendar.length; day++) {
+                Map<Location, Integer> forecast = calendar[day] == null ? null : data.getWeather().get(format.format(calendar[day]));
+                if (forecast == null)
+                    continue;
+                for (int venue = 0; venue < venues; venue++) {
+                    Integer rain = forecast.get(locations[venue]);
+                    weatherMatrix[day * venues + venue] = rain == null ? 0 : rain;
+                }
+            }
+        }
+        for (int i = 0; i < weatherMatrix.length; i++)
+            if (weatherMatrix[i] > Data.BAD_WEATHER_THRESHOLD)
+                badWeather.set(i);
+
+        constraints = data.getConstraints().freeze();
+        buildNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Gets the number of teams
+     *
+     * @return Number of teams, the team ids are 0 to this number (exclusive)
+     */
+    public int getTeamCount() {
+        return teams.length;
+    }
+
+    /**
+     * Gets the number of locations
+     *
+     * @return Number of locations, the venue ids are 0 to this number (exclusive)
+     */
+    public int getVenueCount() {
+        return locations.length;
+    }
+
+    /**
+     * Gets the number of days in the tournament window, i.e. the number of possible day indices of a gene
+     *
+     * @return Number of days between the first and the last date (both inclusive)
+     */
+    public int getDayCount() {
+        return calendar.length;
+    }
+
+    /**
+     * Gets the team with an id
+     *
+     * @param id Team id
+     * @return The team
+     */
+    public Team getTeam(int id) {
+        return teams[id];
+    }
+
+    /**
+     * Gets the location with an id
+     *
+     * @param id Venue id
+     * @return The location
+     */
+    public Location getLocation(int id) {
+        return locations[id];
+    }
+
+    /**
+     * Gets the date for a day index
+     *
+     * @param day Day index
+     * @return The date of the day
+     */
+    public Date getDate(int day) {
+        return calendar[day];
+    }
+
+    /**
+     * Gets the day index (offset in days from the first date) of each possible match date
+     *
+     * @return Day index of every possible match date
+     */
+    public int[] getDayIndices() {
+        return dayIndices;
+    }
+
+    /**
+     * Gets the id of the home ground of each team
+     *
+     * @return Array of venue ids indexed by team id
+     */
+    public int[] getHomeGroundIds() {
+        return homeGroundIds;
+    }
+
+    /**
+     * Gets the number of matches each location should host, i.e. the home matches of all the teams whose home ground
+     * it is: one per opponent for a ground of a single team, more for a ground shared by several teams, and none for
+     * a location which is nobody's home ground
+     *
+     * @return Array of numbers of matches indexed by venue id
+     */
+    public int[] getVenueLoads() {
+        return venueLoads;
+    }
+
+    /**
+     * Gets all the valid matches without their day: every ordered pair of different teams, played at the home ground
+     * of the first team. The day index of these genes is 0.
+     *
+     * @return The table of candidate genes
+     */
+    public int[] getCandidateGenes() {
+        return candidates;
+    }
+
+    /**
+     * Draws a random valid match on a random date, uniformly from the table of candidate genes
+     *
+     * @param random Source of random numbers of the calling thread
+     * @return The encoded match
+     */
+    public int randomGene(RandomSource random) {
+        return Gene.withDay(candidates[random.nextInt(candidates.length)],
+                dayIndices[random.nextInt(dayIndices.length)]);
+    }
+
+    /**
+     * Gets the probability of rain for all days and locations as a dense matrix. The value for a day index {@code d}
+     * and a venue id {@code v} is stored at {@code d * getVenueCount() + v}.
+     *
+     * @return The weather matrix
+     */
+    public int[] getWeatherMatrix() {
+        return weatherMatrix;
+    }
+
+    /**
+     * Checks whether the probability of rain at a location on a day is above the threshold
+     *
+     * @param day   Day index
+     * @param venue Venue id
+     * @return true if the weather is bad
+     */
+    public boolean isBadWeather(int day, int venue) {
+        return badWeather.get(day * locations.length + venue);
+    }
+
+    /**
+     * Getter method for {@code ConstraintSet constraints}
+     *
+     * @return The constraints used to compute the fitness of a schedule, which cannot be changed
+     */
+    public ConstraintSet getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Getter method for {@code long buildNanos}
+     *
+     * @return Time taken to build this snapshot in nanoseconds
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * Converts a match into a gene
+     *
+     * @param match The match to be encoded
+     * @return The encoded gene
+     */
+    public int encode(Match match) {
+        int home = teamOf(match.getTeam1());
+        int away = teamOf(match.getTeam2());
+        int venue = venueOf(match.getLocation());
+        if (home < 0 || away < 0 || venue < 0)
+            throw new IllegalArgumentException("Match is not part of the data set: " + match);
+        return Gene.of(dayOf(match.getDate()), home, away, venue);
+    }
+
+    /**
+     * Converts a gene back into a match
+     *
+     * @param gene The encoded gene
+     * @return The decoded match
+     */
+    public Match decode(int gene) {
+        return new Match(calendar[Gene.day(gene)], teams[Gene.home(gene)], teams[Gene.away(gene)],
+                locations[Gene.venue(gene)]);
+    }
+
+    /**
+     * Gets the id in a gene of a team
+     *
+     * @param team The team
+     * @return The team id, -1 if the team is not part of the problem
+     */
+    private int teamOf(Team team) {
+        Integer id = team == null ? null : teamIds.get(team);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the id in a gene of a location
+     *
+     * @param location The location
+     * @return The venue id, -1 if the location is not part of the problem
+     */
+    private int venueOf(Location location) {
+        Integer id = location == null ? null : locationIds.get(location);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the day index of a date
+     *
+     * @param date The date
+     * @return Offset in days from the first date
+     */
+    private int dayOf(Date date) {
+        long day = epochDay(date) - firstDay;
+        if (day < 0 || day >= calendar.length)
+            throw new IllegalArgumentException("Date is outside of the tournament window: " + date);
+        return (int) day;
+    }
+
+    /**
+     * Converts a date into the number of days since the epoch in the local time zone
+     *
+     * @param date The date
+     * @return The epoch day of the date
+     */
+    private static long epochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+}
@@ -0,0 +1,83 @@
+package scheduling;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of random numbers for the genetic algorithm. All the sources of a run are split from a single root source,
+ * so a run started with the same seed produces exactly the same results.
+ * A source is not thread-safe: each thread (or each task of a fork/join pool) has to {@link #split()} its own.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class RandomSource {
+
+    /**
+     * The generator of this stream of random numbers
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a root source with the seed passed
+     *
+     * @param seed Seed of the run
+     */
+    public RandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a root source with a seed that is different for every call
+     */
+    public RandomSource() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates a source using the generator passed
+     *
+     * @param random The generator of the stream
+     */
+    private RandomSource(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates a new independent source. The values of the new source only depend on the values drawn from this source
+     * before the call, so the same sequence of calls gives the same sources.
+     *
+     * @return The new source
+     */
+    public RandomSource split() {
+        return new RandomSource(random.split());
+    }
+
+    /**
+     * Gets a random integer between 0 (inclusive) and the bound (exclusive)
+     *
+     * @param bound Upper bound of the value
+     * @return The random integer
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Gets a random double between 0 (inclusive) and 1 (exclusive)
+     *
+     * @return The random double
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Gets a random long, used for deriving seeds
+     *
+     * @return The random long
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+}
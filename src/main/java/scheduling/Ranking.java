@@ -0,0 +1,166 @@
+package scheduling;
+
+import scheduling.pojo.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * This class ranks the schedules of a population from the fittest to the least fit without moving them. Each schedule
+ * is given a primitive key, its number of violations in the high 32 bits and its position in the population in the
+ * low 32 bits, so the keys are all different and sorting them is a plain sort of longs: schedules with the same
+ * fitness keep the order of the population, and no comparator on doubles is involved.
+ * Only the best {@code k} schedules need to be ordered: they are first separated from the others by a quickselect in
+ * O(n), then only these are sorted. A larger group of best schedules can also be separated from the others without
+ * being ordered, e.g. the survivors of a generation from the schedules they replace.
+ * A ranking is owned by its population and filled again by every call to {@link Population#rankTop(int)}, so it is
+ * only valid until the next call.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+class Ranking {
+
+    /**
+     * Number of keys from which they are sorted in parallel
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * The population being ranked
+     */
+    private final Population pop;
+
+    /**
+     * The key of every schedule, the best ranked first
+     */
+    private long[] keys = new long[0];
+
+    /**
+     * Number of schedules whose rank is exact, the others are only known to rank after them
+     */
+    private int sorted;
+
+    /**
+     * Creates an empty ranking for a population
+     *
+     * @param pop The population being ranked
+     */
+    Ranking(Population pop) {
+        this.pop = pop;
+    }
+
+    /**
+     * Ranks the best {@code k} schedules of the population. The fitness of the schedules which have changed is
+     * computed first.
+     *
+     * @param k Number of schedules whose rank must be exact
+     */
+    void rank(int k) {
+        rank(k, k);
+    }
+
+    /**
+     * Ranks the best {@code k} schedules of the population, and separates the best {@code kept} schedules from the
+     * others: the ranks below {@code kept} hold the best schedules, only the first {@code k} of them in order. The
+     * fitness of the schedules which have changed is computed first.
+     *
+     * @param k    Number of schedules whose rank must be exact
+     * @param kept Number of best schedules separated from the others, at least {@code k}
+     */
+    void rank(int k, int kept) {
+        int n = pop.size();
+        if (keys.length != n)
+            keys = new long[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = ((long) pop.get(i).getViolations() << 32) | i;
+
+        sorted = Math.min(Math.max(k, 0), n);
+        int separated = Math.min(Math.max(kept, sorted), n);
+        if (separated < n)
+            select(separated, n);
+        if (sorted < separated)
+            select(sorted, separated);
+        if (sorted >= PARALLEL_THRESHOLD)
+            Arrays.parallelSort(keys, 0, sorted);
+        else
+            Arrays.sort(keys, 0, sorted);
+    }
+
+    /**
+     * Moves the {@code k} smallest of the first {@code n} keys to the front, in any order, with a quickselect
+     *
+     * @param k Number of keys to be moved to the front, between 0 and {@code n} (exclusive)
+     * @param n Number of keys from the front among which they are selected
+     */
+    private void select(int k, int n) {
+        if (k == 0)
+            return;
+        int target = k - 1;
+        int low = 0;
+        int high = n - 1;
+        while (low < high) {
+            // Median of three, deterministic so that seeded runs stay reproducible
+            int mid = (low + high) >>> 1;
+            long pivot = Math.max(Math.min(keys[low], keys[mid]), Math.min(Math.max(keys[low], keys[mid]), keys[high]));
+
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (keys[i] < pivot)
+                    i++;
+                while (keys[j] > pivot)
+                    j--;
+                if (i <= j) {
+                    long temp = keys[i];
+                    keys[i++] = keys[j];
+                    keys[j--] = temp;
+                }
+            }
+            if (target <= j)
+                high = j;
+            else if (target >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+
+    /**
+     * Gets the position in the population of the schedule with a rank
+     *
+     * @param rank Rank of the schedule, 0 for the fittest
+     * @return Position of the schedule in the population
+     */
+    int index(int rank) {
+        return (int) keys[rank];
+    }
+
+    /**
+     * Gets the schedule with a rank
+     *
+     * @param rank Rank of the schedule, 0 for the fittest
+     * @return The schedule
+     */
+    Schedule get(int rank) {
+        return pop.get(index(rank));
+    }
+
+    /**
+     * Getter method for {@code sorted}
+     *
+     * @return Number of schedules whose rank is exact
+     */
+    int getSortedCount() {
+        return sorted;
+    }
+
+    /**
+     * Gets the number of schedules ranked
+     *
+     * @return Size of the population
+     */
+    int size() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,108 @@
+package scheduling;
+
+/**
+ * This class defines which schedules of a generation survive into the next one. In each case the best schedules
+ * are kept unchanged and the rest of the population is replaced by new children, so only the children have to be
+ * evaluated.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class ReplacementStrategy {
+
+    /**
+     * The kinds of replacement
+     */
+    public enum Mode {
+        /**
+         * The whole population is replaced by children
+         */
+        GENERATIONAL,
+
+        /**
+         * The given number of best schedules (elites) are kept, the rest is replaced by children
+         */
+        ELITIST,
+
+        /**
+         * Only the given number of worst schedules are replaced by children
+         */
+        STEADY_STATE
+    }
+
+    /**
+     * The kind of replacement
+     */
+    private final Mode mode;
+
+    /**
+     * Number of elites kept, or number of schedules replaced in steady-state mode
+     */
+    private final int count;
+
+    /**
+     * Creates a replacement strategy
+     *
+     * @param mode  The kind of replacement
+     * @param count Number of elites kept (ELITIST) or of schedules replaced (STEADY_STATE), ignored for GENERATIONAL
+     */
+    public ReplacementStrategy(Mode mode, int count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Replacement count must not be negative: " + count);
+        this.mode = mode;
+        this.count = count;
+    }
+
+    /**
+     * Getter method for {@code Mode mode}
+     *
+     * @return The kind of replacement
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Getter method for {@code int count}
+     *
+     * @return Number of elites kept or of schedules replaced
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of best schedules which survive into the next generation
+     *
+     * @param size Size of the population
+     * @return Number of schedules kept
+     */
+    public int survivors(int size) {
+        switch (mode) {
+            case ELITIST:
+                return Math.min(count, size);
+            case STEADY_STATE:
+                return size - Math.min(Math.max(count, 1), size);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return String equivalent of the Object
+     */
+    @Override
+    public String toString() {
+        switch (mode) {
+            case ELITIST:
+                return mode + " (" + count + " elites)";
+            case STEADY_STATE:
+                return mode + " (" + count + " replaced)";
+            default:
+                return mode.toString();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package scheduling;
+
+import scheduling.pojo.Schedule;
+
+/**
+ * This class selects the parents of the next generation. It is built once per generation from the ranking of the
+ * population, after which the parents are picked as indices into the population without allocating any objects.
+ * Only the best {@code cullingRate} part of the population takes part in the selection: the candidates are chosen by
+ * their rank, so the population does not have to be sorted.
+ * An instance is read-only once built, so it can be shared by all the threads producing the offspring.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+class Selection {
+
+    /**
+     * The method used for picking the parents
+     */
+    private final SelectionMethod method;
+
+    /**
+     * Number of schedules competing in each tournament
+     */
+    private final int tournamentSize;
+
+    /**
+     * Position in the population of the schedules taking part in the selection, the fittest first
+     */
+    private final int[] indices;
+
+    /**
+     * Cached fitness of the schedules taking part in the selection, the fittest first
+     */
+    private final double[] fitness;
+
+    /**
+     * Cumulative selection weights of the schedules, used by the rank and stochastic universal methods
+     */
+    private final double[] cumulative;
+
+    /**
+     * Builds the selection for a population
+     *
+     * @param ranking        The ranking of the population, exact for at least {@code candidates} schedules
+     * @param method         The method used for picking the parents
+     * @param tournamentSize Number of schedules competing in each tournament
+     * @param candidates     Number of schedules taking part in the selection, see {@link #candidates(int, double)}
+     */
+    Selection(Ranking ranking, SelectionMethod method, int tournamentSize, int candidates) {
+        if (candidates > ranking.getSortedCount())
+            throw new IllegalArgumentException("Only " + ranking.getSortedCount() + " of the " + candidates
+                    + " candidates are ranked");
+        this.method = method;
+        this.tournamentSize = tournamentSize;
+
+        indices = new int[candidates];
+        fitness = new double[candidates];
+        for (int i = 0; i < candidates; i++) {
+            Schedule s = ranking.get(i);
+            indices[i] = ranking.index(i);
+            fitness[i] = s.getFitness();
+        }
+
+        cumulative = new double[method == SelectionMethod.TOURNAMENT ? 0 : candidates];
+        double total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            total += method == SelectionMethod.RANK ? candidates - i : fitness[i];
+            cumulative[i] = total;
+        }
+    }
+
+    /**
+     * Gets the number of schedules of a population taking part in the selection
+     *
+     * @param size        Size of the population
+     * @param cullingRate Part of the population taking part in the selection
+     * @return Number of candidates, at least 1
+     */
+    static int candidates(int size, double cullingRate) {
+        return Math.max(1, (int) (size * cullingRate));
+    }
+
+    /**
+     * Picks the parents for the next generation
+     *
+     * @param parents Array which is filled with the indices of the parents in the population
+     * @param random  Source of random numbers of the calling thread
+     */
+    void select(int[] parents, RandomSource random) {
+        switch (method) {
+            case TOURNAMENT:
+                for (int i = 0; i < parents.length; i++)
+                    parents[i] = tournament(random);
+                break;
+            case RANK:
+                for (int i = 0; i < parents.length; i++)
+                    parents[i] = spin(random.nextDouble() * cumulative[cumulative.length - 1]);
+                break;
+            case STOCHASTIC_UNIVERSAL:
+                double step = cumulative[cumulative.length - 1] / parents.length;
+                double pointer = random.nextDouble() * step;
+                for (int i = 0; i < parents.length; i++)
+                    parents[i] = spin(pointer + i * step);
+                shuffle(parents, random);
+                break;
+        }
+        for (int i = 0; i < parents.length; i++)
+            parents[i] = indices[parents[i]];
+    }
+
+    /**
+     * Runs a single tournament: the fittest of {@code tournamentSize} schedules picked at random
+     *
+     * @param random Source of random numbers of the calling thread
+     * @return Rank of the winner among the candidates
+     */
+    private int tournament(RandomSource random) {
+        int best = random.nextInt(fitness.length);
+        for (int i = 1; i < tournamentSize; i++) {
+            int candidate = random.nextInt(fitness.length);
+            if (fitness[candidate] > fitness[best])
+                best = candidate;
+        }
+        return best;
+    }
+
+    /**
+     * Finds the schedule whose slice of the cumulative weights contains the point
+     *
+     * @param point A value between 0 and the total weight
+     * @return Rank of the schedule among the candidates
+     */
+    private int spin(double point) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] > point)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        return low;
+    }
+
+    /**
+     * Shuffles the parents so that the pairs of parents are random (stochastic universal sampling picks them in order)
+     *
+     * @param parents Indices of the parents
+     * @param random  Source of random numbers of the calling thread
+     */
+    private void shuffle(int[] parents, RandomSource random) {
+        for (int i = parents.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = parents[i];
+            parents[i] = parents[j];
+            parents[j] = temp;
+        }
+    }
+}
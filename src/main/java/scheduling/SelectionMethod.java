@@ -0,0 +1,26 @@
+package scheduling;
+
+/**
+ * The ways of selecting the parents of the next generation
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public enum SelectionMethod {
+    /**
+     * The fittest of a few schedules picked at random
+     */
+    TOURNAMENT,
+
+    /**
+     * A schedule picked with a probability proportional to its rank, the fittest having the highest rank
+     */
+    RANK,
+
+    /**
+     * Stochastic universal sampling: schedules picked proportionally to their fitness with evenly spaced pointers,
+     * so that the number of times a schedule is picked stays close to its expected value
+     */
+    STOCHASTIC_UNIVERSAL
+}
@@ -0,0 +1,68 @@
+package scheduling;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Entry point for running the genetic algorithm from code. A run is started in the background and controlled through
+ * the {@link SolverHandle} returned, so the caller can report the progress, read the best schedule found so far and
+ * stop the search as soon as the answer is good enough.
+ * Every run holds its own config and population, and only reads the immutable problem instance, so any number of
+ * runs can be solved at the same time.
+ * All the runs of a solver share its pool, which bounds the number of threads used whatever the number of runs;
+ * no thread of the pool is blocked while a run waits for its islands.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class Solver {
+
+    /**
+     * The pool shared by all the runs of this solver
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a solver running on the common pool
+     */
+    public Solver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a solver running on the pool passed. The pool is owned by the caller, who has to shut it down.
+     *
+     * @param pool The pool shared by all the runs
+     */
+    public Solver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Starts a run without listening to its progress
+     *
+     * @param problem The problem instance over which the algorithm is run
+     * @param config  The parameters of the run
+     * @return The handle of the run
+     */
+    public SolverHandle solve(ProblemInstance problem, SolverConfig config) {
+        return solve(problem, config, statistics -> {
+        });
+    }
+
+    /**
+     * Starts a run in the background. The config is copied, so changing it afterwards does not affect the run.
+     * A problem instance may be shared by several runs.
+     *
+     * @param problem  The problem instance over which the algorithm is run
+     * @param config   The parameters of the run
+     * @param listener Called with the statistics of the population after each generation, on a thread of the pool
+     * @return The handle of the run
+     */
+    public SolverHandle solve(ProblemInstance problem, SolverConfig config, Consumer<GenerationStatistics> listener) {
+        SolverHandle handle = new SolverHandle();
+        handle.start(problem, new SolverConfig(config), pool, listener);
+        return handle;
+    }
+}
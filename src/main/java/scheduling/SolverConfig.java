@@ -0,0 +1,330 @@
+package scheduling;
+
+/**
+ * This class holds all the parameters of a run of the genetic algorithm. The defaults are the values of the
+ * scheduling.properties file shipped with the project.
+ * A config is copied when a run starts, so changing it afterwards does not affect the runs already started.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class SolverConfig {
+
+    /**
+     * Member variables holding the parameters of the population
+     */
+    private int populationSize = 5000;
+    private int colonySize = 100;
+
+    /**
+     * Member variables holding the parameters of the genetic operators
+     */
+    private int tournamentSize = 25;
+    private double mutationRate = 0.15;
+    private double crossoverRate = 0.75;
+    private double cullingRate = 0.5;
+    private SelectionMethod selectionMethod = SelectionMethod.TOURNAMENT;
+    private ReplacementStrategy replacement = new ReplacementStrategy(ReplacementStrategy.Mode.GENERATIONAL, 0);
+
+    /**
+     * Member variables holding the parameters of the migration between colonies
+     */
+    private MigrationTopology migrationTopology = MigrationTopology.RING;
+    private int migrationInterval = 10;
+    private int migrationSize = 2;
+
+    /**
+     * Member variables holding when the run stops and how it is seeded
+     */
+    private TerminationPolicy termination = new TerminationPolicy(0, 0, .5, 0);
+    private long seed = System.nanoTime();
+
+    /**
+     * Whether the violations and time of each constraint are recorded, which costs two clock reads per constraint and
+     * evaluation
+     */
+    private boolean constraintStatistics = false;
+
+    /**
+     * Creates a config with the default parameters
+     */
+    public SolverConfig() {
+    }
+
+    /**
+     * Creates a copy of a config
+     *
+     * @param other The config to be copied
+     */
+    public SolverConfig(SolverConfig other) {
+        this.populationSize = other.populationSize;
+        this.colonySize = other.colonySize;
+        this.tournamentSize = other.tournamentSize;
+        this.mutationRate = other.mutationRate;
+        this.crossoverRate = other.crossoverRate;
+        this.cullingRate = other.cullingRate;
+        this.selectionMethod = other.selectionMethod;
+        this.replacement = other.replacement;
+        this.migrationTopology = other.migrationTopology;
+        this.migrationInterval = other.migrationInterval;
+        this.migrationSize = other.migrationSize;
+        this.termination = other.termination;
+        this.seed = other.seed;
+        this.constraintStatistics = other.constraintStatistics;
+    }
+
+    /**
+     * Getter method for {@code int populationSize}
+     *
+     * @return Total size of the population
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Setter method for {@code int populationSize}
+     *
+     * @param populationSize Total size of the population
+     */
+    public void setPopulationSize(int populationSize) {
+        this.populationSize = populationSize;
+    }
+
+    /**
+     * Getter method for {@code int colonySize}
+     *
+     * @return Size of each colony
+     */
+    public int getColonySize() {
+        return colonySize;
+    }
+
+    /**
+     * Setter method for {@code int colonySize}
+     *
+     * @param colonySize Size of each colony
+     */
+    public void setColonySize(int colonySize) {
+        this.colonySize = colonySize;
+    }
+
+    /**
+     * Getter method for {@code int tournamentSize}
+     *
+     * @return Number of competitors of a tournament selection
+     */
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    /**
+     * Setter method for {@code int tournamentSize}
+     *
+     * @param tournamentSize Number of competitors of a tournament selection
+     */
+    public void setTournamentSize(int tournamentSize) {
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * Getter method for {@code double mutationRate}
+     *
+     * @return Probability of each gene to be mutated
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Setter method for {@code double mutationRate}
+     *
+     * @param mutationRate Probability of each gene to be mutated
+     */
+    public void setMutationRate(double mutationRate) {
+        this.mutationRate = mutationRate;
+    }
+
+    /**
+     * Getter method for {@code double crossoverRate}
+     *
+     * @return Rate at which the crossover happens
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Setter method for {@code double crossoverRate}
+     *
+     * @param crossoverRate Rate at which the crossover happens
+     */
+    public void setCrossoverRate(double crossoverRate) {
+        this.crossoverRate = crossoverRate;
+    }
+
+    /**
+     * Getter method for {@code double cullingRate}
+     *
+     * @return Part of the population, from the best, which can be selected as parents
+     */
+    public double getCullingRate() {
+        return cullingRate;
+    }
+
+    /**
+     * Setter method for {@code double cullingRate}
+     *
+     * @param cullingRate Part of the population, from the best, which can be selected as parents
+     */
+    public void setCullingRate(double cullingRate) {
+        this.cullingRate = cullingRate;
+    }
+
+    /**
+     * Getter method for {@code SelectionMethod selectionMethod}
+     *
+     * @return How the parents are selected
+     */
+    public SelectionMethod getSelectionMethod() {
+        return selectionMethod;
+    }
+
+    /**
+     * Setter method for {@code SelectionMethod selectionMethod}
+     *
+     * @param selectionMethod How the parents are selected
+     */
+    public void setSelectionMethod(SelectionMethod selectionMethod) {
+        this.selectionMethod = selectionMethod;
+    }
+
+    /**
+     * Getter method for {@code ReplacementStrategy replacement}
+     *
+     * @return Which schedules survive into the next generation
+     */
+    public ReplacementStrategy getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Setter method for {@code ReplacementStrategy replacement}
+     *
+     * @param replacement Which schedules survive into the next generation
+     */
+    public void setReplacement(ReplacementStrategy replacement) {
+        this.replacement = replacement;
+    }
+
+    /**
+     * Getter method for {@code MigrationTopology migrationTopology}
+     *
+     * @return How the colonies are connected
+     */
+    public MigrationTopology getMigrationTopology() {
+        return migrationTopology;
+    }
+
+    /**
+     * Setter method for {@code MigrationTopology migrationTopology}
+     *
+     * @param migrationTopology How the colonies are connected
+     */
+    public void setMigrationTopology(MigrationTopology migrationTopology) {
+        this.migrationTopology = migrationTopology;
+    }
+
+    /**
+     * Getter method for {@code int migrationInterval}
+     *
+     * @return Number of generations between two migrations
+     */
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * Setter method for {@code int migrationInterval}
+     *
+     * @param migrationInterval Number of generations between two migrations
+     */
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = migrationInterval;
+    }
+
+    /**
+     * Getter method for {@code int migrationSize}
+     *
+     * @return Number of schedules sent by a colony to each colony it is connected to
+     */
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+
+    /**
+     * Setter method for {@code int migrationSize}
+     *
+     * @param migrationSize Number of schedules sent by a colony to each colony it is connected to
+     */
+    public void setMigrationSize(int migrationSize) {
+        this.migrationSize = migrationSize;
+    }
+
+    /**
+     * Getter method for {@code TerminationPolicy termination}
+     *
+     * @return When the run stops
+     */
+    public TerminationPolicy getTermination() {
+        return termination;
+    }
+
+    /**
+     * Setter method for {@code TerminationPolicy termination}
+     *
+     * @param termination When the run stops
+     */
+    public void setTermination(TerminationPolicy termination) {
+        this.termination = termination;
+    }
+
+    /**
+     * Getter method for {@code long seed}
+     *
+     * @return Seed of the run
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Setter method for {@code long seed}
+     *
+     * @param seed Seed of the run
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Getter method for {@code boolean constraintStatistics}
+     *
+     * @return true if the violations and time of each constraint are recorded
+     */
+    public boolean isConstraintStatistics() {
+        return constraintStatistics;
+    }
+
+    /**
+     * Setter method for {@code boolean constraintStatistics}. Off by default: the constraints are then evaluated in a
+     * plain loop, without reading the clock.
+     *
+     * @param constraintStatistics true to record the violations and time of each constraint, see
+     *                             {@link SolverHandle#getConstraintStatistics()}
+     */
+    public void setConstraintStatistics(boolean constraintStatistics) {
+        this.constraintStatistics = constraintStatistics;
+    }
+}
@@ -0,0 +1,136 @@
+package scheduling;
+
+import scheduling.constraint.ConstraintStatistics;
+import scheduling.pojo.Schedule;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Handle of a run started by {@link Solver#solve(ProblemInstance, SolverConfig, Consumer)}. The run can be queried for the best
+ * schedule found so far at any moment, waited for through its future, or cancelled. A cancelled run still completes
+ * its future with the best schedule found before it stopped.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class SolverHandle {
+
+    /**
+     * Completed with the best schedule when the run stops
+     */
+    private final CompletableFuture<Schedule> result = new CompletableFuture<>();
+
+    /**
+     * The islands of the run, null until the run has started
+     */
+    private volatile IslandModel model;
+
+    /**
+     * Statistics of the last generation published to the listener
+     */
+    private volatile GenerationStatistics statistics;
+
+    /**
+     * Set when the run has been cancelled, possibly before the islands were created
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Creates the handle of a run which has not started yet. Cancelling the future of the result cancels the run.
+     */
+    SolverHandle() {
+        result.whenComplete((schedule, ex) -> {
+            if (result.isCancelled())
+                cancel();
+        });
+    }
+
+    /**
+     * Starts the run on the pool and returns at once. The future of the result is completed when the run stops.
+     *
+     * @param problem  The problem instance over which the algorithm is run
+     * @param config   The parameters of the run
+     * @param pool     The pool on which the run is executed
+     * @param listener Called with the statistics of the population after each generation
+     */
+    void start(ProblemInstance problem, SolverConfig config, ForkJoinPool pool, Consumer<GenerationStatistics> listener) {
+        IslandModel islands = new IslandModel(problem, config, pool, new RandomSource(config.getSeed()));
+        model = islands;
+        if (cancelled)
+            islands.cancel();
+        islands.run(m -> {
+            statistics = m.getStatistics();
+            listener.accept(statistics);
+        }).whenComplete((best, ex) -> {
+            if (ex != null)
+                result.completeExceptionally(ex);
+            else
+                result.complete(best.copy());
+        });
+    }
+
+    /**
+     * Gets the best schedule found so far. The schedule is a copy, so it may be kept while the run goes on.
+     *
+     * @return The best schedule, or null while the initial populations are created
+     */
+    public Schedule getBest() {
+        IslandModel islands = model;
+        Schedule best = islands == null ? null : islands.getBest();
+        return best == null ? null : best.copy();
+    }
+
+    /**
+     * Getter method for {@code statistics}
+     *
+     * @return Statistics of the last generation published, or null before the end of the first generation
+     */
+    public GenerationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the violations and time of each constraint over all the evaluations of this run. Other runs over the same
+     * problem instance have their own. They are only recorded if enabled by
+     * {@link SolverConfig#setConstraintStatistics(boolean)}.
+     *
+     * @return The statistics of the constraints, null before the run has started or if they are not recorded
+     */
+    public ConstraintStatistics getConstraintStatistics() {
+        IslandModel islands = model;
+        return islands == null ? null : islands.getConstraintStatistics();
+    }
+
+    /**
+     * Getter method for {@code result}
+     *
+     * @return The future completed with the best schedule when the run stops
+     */
+    public CompletableFuture<Schedule> getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the condition which ended the run
+     *
+     * @return The termination reason, null while running
+     */
+    public TerminationPolicy.Reason getTerminationReason() {
+        IslandModel islands = model;
+        return islands == null || !result.isDone() ? null : islands.getTerminationReason();
+    }
+
+    /**
+     * Stops the run as soon as the islands have finished their current generation. The future of the result is
+     * then completed with the best schedule found so far.
+     */
+    public void cancel() {
+        cancelled = true;
+        IslandModel islands = model;
+        if (islands != null)
+            islands.cancel();
+    }
+}
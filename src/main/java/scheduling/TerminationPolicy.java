@@ -0,0 +1,132 @@
+package scheduling;
+
+/**
+ * This class defines when a run of the algorithm stops. A run stops as soon as any of the following happens:
+ * - The wall-clock time budget is used up
+ * - The maximum number of generations has been run
+ * - A schedule reaches the target fitness
+ * - The best fitness has not improved for a number of generations (stagnation)
+ * A value of 0 for the time budget, the maximum generations or the stagnation disables that condition.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class TerminationPolicy {
+
+    /**
+     * The conditions which can end a run
+     */
+    public enum Reason {
+        TARGET_FITNESS,
+        TIME_BUDGET,
+        MAX_GENERATIONS,
+        STAGNATION,
+        CANCELLED
+    }
+
+    /**
+     * Member variables holding the limits of a run
+     */
+    private final long timeBudgetMillis;
+    private final int maxGenerations;
+    private final double targetFitness;
+    private final int stagnationGenerations;
+
+    /**
+     * Creates a termination policy
+     *
+     * @param timeBudgetMillis      Wall-clock time budget in milliseconds, 0 for no limit
+     * @param maxGenerations        Maximum number of generations, 0 for no limit
+     * @param targetFitness         Fitness at which the run stops, above 1 to never stop on fitness
+     * @param stagnationGenerations Number of generations without improvement after which the run stops, 0 for no limit
+     */
+    public TerminationPolicy(long timeBudgetMillis, int maxGenerations, double targetFitness, int stagnationGenerations) {
+        if (timeBudgetMillis < 0 || maxGenerations < 0 || stagnationGenerations < 0)
+            throw new IllegalArgumentException("Termination limits must not be negative");
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxGenerations = maxGenerations;
+        this.targetFitness = targetFitness;
+        this.stagnationGenerations = stagnationGenerations;
+    }
+
+    /**
+     * Getter method for {@code long timeBudgetMillis}
+     *
+     * @return Wall-clock time budget in milliseconds, 0 for no limit
+     */
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    /**
+     * Getter method for {@code int maxGenerations}
+     *
+     * @return Maximum number of generations, 0 for no limit
+     */
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Getter method for {@code double targetFitness}
+     *
+     * @return Fitness at which the run stops
+     */
+    public double getTargetFitness() {
+        return targetFitness;
+    }
+
+    /**
+     * Getter method for {@code int stagnationGenerations}
+     *
+     * @return Number of generations without improvement after which the run stops, 0 for no limit
+     */
+    public int getStagnationGenerations() {
+        return stagnationGenerations;
+    }
+
+    /**
+     * Gets the time at which the time budget of a run is used up
+     *
+     * @param startNanos Start of the run, as given by {@link System#nanoTime()}
+     * @return Deadline as given by {@link System#nanoTime()}, or {@link Long#MAX_VALUE} without a time budget
+     */
+    public long deadline(long startNanos) {
+        return timeBudgetMillis == 0 ? Long.MAX_VALUE : startNanos + timeBudgetMillis * 1000000;
+    }
+
+    /**
+     * Checks whether a run has to stop
+     *
+     * @param generation               Number of generations run so far
+     * @param elapsedMillis            Wall-clock time since the start of the run in milliseconds
+     * @param bestFitness              Fitness of the best schedule found so far
+     * @param generationsSinceImproved Number of generations since the best fitness last improved
+     * @return The condition which ends the run, or null if the run goes on
+     */
+    public Reason check(int generation, long elapsedMillis, double bestFitness, int generationsSinceImproved) {
+        if (bestFitness >= targetFitness)
+            return Reason.TARGET_FITNESS;
+        if (timeBudgetMillis > 0 && elapsedMillis >= timeBudgetMillis)
+            return Reason.TIME_BUDGET;
+        if (maxGenerations > 0 && generation >= maxGenerations)
+            return Reason.MAX_GENERATIONS;
+        if (stagnationGenerations > 0 && generationsSinceImproved >= stagnationGenerations)
+            return Reason.STAGNATION;
+        return null;
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return String equivalent of the Object
+     */
+    @Override
+    public String toString() {
+        return String.format("target fitness %.5f, time budget %s, max generations %s, stagnation %s", targetFitness,
+                timeBudgetMillis == 0 ? "none" : timeBudgetMillis + " ms",
+                maxGenerations == 0 ? "none" : String.valueOf(maxGenerations),
+                stagnationGenerations == 0 ? "none" : stagnationGenerations + " generations");
+    }
+}
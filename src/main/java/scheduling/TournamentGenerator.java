@@ -0,0 +1,258 @@
+package scheduling;
+
+import scheduling.pojo.Location;
+import scheduling.pojo.Team;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * This class generates synthetic tournaments of any size, for measuring how the algorithm scales with the number of
+ * teams. A tournament is made of:
+ * - {@code teams} teams named Team1, Team2, ...
+ * - {@code venues} venues: the first ones are the home grounds of the first teams, one each, and the last
+ *   {@code neutralVenues} ones are neutral grounds shared by the teams which have no ground of their own
+ * - a window of {@code days} consecutive days starting on {@code firstDate}
+ * - a probability of rain for every day and venue, above {@link Data#BAD_WEATHER_THRESHOLD} for a
+ *   {@code badWeatherRate} part of them
+ * The same parameters and seed always give the same tournament, whatever the current date.
+ * The parameters are set like those of a {@link SolverConfig}, then {@link #generate()} creates the data set.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class TournamentGenerator {
+
+    /**
+     * Member variables holding the size of the tournament
+     */
+    private int teams = 4;
+    private int venues = 4;
+    private int neutralVenues = 0;
+    private int days = 0;
+
+    /**
+     * Member variables holding the calendar and the weather
+     */
+    private Date firstDate = new Calendar.Builder().setDate(2019, Calendar.MAY, 30).build().getTime();
+    private double badWeatherRate = .29;
+    private long seed = 6205;
+
+    /**
+     * Creates the data set of the tournament
+     *
+     * @return A new data set
+     */
+    public Data generate() {
+        return new Data(this);
+    }
+
+    /**
+     * Fills an empty data set with the tournament
+     *
+     * @param data   The data set
+     * @param random Source of random numbers for the weather
+     */
+    void fill(Data data, RandomSource random) {
+        if (neutralVenues > venues)
+            throw new IllegalArgumentException(neutralVenues + " neutral venues out of " + venues + " venues");
+        int ownGrounds = venues - neutralVenues;
+        if (teams > ownGrounds && neutralVenues == 0)
+            throw new IllegalArgumentException(teams + " teams need neutral venues, there are only " + ownGrounds
+                    + " home grounds");
+        for (int i = 0; i < venues; i++)
+            data.getLocationList().add(new Location(i < ownGrounds ? "Venue" + (i + 1) : "Neutral" + (i - ownGrounds + 1)));
+        for (int i = 0; i < teams; i++) {
+            int ground = i < ownGrounds ? i : ownGrounds + (i - ownGrounds) % neutralVenues;
+            data.getTeamList().add(new Team("Team" + (i + 1), data.getLocationList().get(ground)));
+        }
+
+        Calendar day = Calendar.getInstance();
+        day.setTime(firstDate);
+        SimpleDateFormat format = (SimpleDateFormat) Data.dateFormat.clone();
+        for (int i = 0; i < getWindow(); i++) {
+            data.getDates().add(day.getTime());
+            HashMap<Location, Integer> forecast = new HashMap<>();
+            for (Location location : data.getLocationList())
+                forecast.put(location, rain(random));
+            data.getWeather().put(format.format(day.getTime()), forecast);
+            day.add(Calendar.DAY_OF_YEAR, 1);
+        }
+    }
+
+    /**
+     * Draws the probability of rain of a day at a venue: above the threshold of bad weather with a probability of
+     * {@code badWeatherRate}, uniformly on each side of the threshold
+     *
+     * @param random Source of random numbers for the weather
+     * @return Probability of rain, from 0 to 99
+     */
+    private int rain(RandomSource random) {
+        int threshold = Data.BAD_WEATHER_THRESHOLD;
+        if (random.nextDouble() < badWeatherRate)
+            return threshold + 1 + random.nextInt(99 - threshold);
+        return random.nextInt(threshold + 1);
+    }
+
+    /**
+     * Gets the number of days of the window actually generated
+     *
+     * @return {@code days}, or {@code teams * teams + 1} (at most {@link Gene#MAX_DAYS}) if it is 0
+     */
+    public int getWindow() {
+        return days > 0 ? days : Math.min(teams * teams + 1, Gene.MAX_DAYS);
+    }
+
+    /**
+     * Getter method for {@code int teams}
+     *
+     * @return Number of teams
+     */
+    public int getTeams() {
+        return teams;
+    }
+
+    /**
+     * Setter method for {@code int teams}
+     *
+     * @param teams Number of teams, from 2 to {@link Gene#MAX_TEAMS}
+     */
+    public void setTeams(int teams) {
+        if (teams < 2 || teams > Gene.MAX_TEAMS)
+            throw new IllegalArgumentException("Number of teams must be between 2 and " + Gene.MAX_TEAMS + ": " + teams);
+        this.teams = teams;
+    }
+
+    /**
+     * Getter method for {@code int venues}
+     *
+     * @return Number of venues, including the neutral ones
+     */
+    public int getVenues() {
+        return venues;
+    }
+
+    /**
+     * Setter method for {@code int venues}
+     *
+     * @param venues Number of venues including the neutral ones, from 1 to {@link Gene#MAX_VENUES}
+     */
+    public void setVenues(int venues) {
+        if (venues < 1 || venues > Gene.MAX_VENUES)
+            throw new IllegalArgumentException("Number of venues must be between 1 and " + Gene.MAX_VENUES + ": " + venues);
+        this.venues = venues;
+    }
+
+    /**
+     * Getter method for {@code int neutralVenues}
+     *
+     * @return Number of venues which are not the home ground of a single team
+     */
+    public int getNeutralVenues() {
+        return neutralVenues;
+    }
+
+    /**
+     * Setter method for {@code int neutralVenues}
+     *
+     * @param neutralVenues Number of venues shared by the teams which have no ground of their own, at most the
+     *                      number of venues
+     */
+    public void setNeutralVenues(int neutralVenues) {
+        if (neutralVenues < 0 || neutralVenues > venues)
+            throw new IllegalArgumentException("Number of neutral venues must be between 0 and " + venues + ": "
+                    + neutralVenues);
+        this.neutralVenues = neutralVenues;
+    }
+
+    /**
+     * Getter method for {@code int days}
+     *
+     * @return Number of days of the window, 0 for the default, see {@link #getWindow()}
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Setter method for {@code int days}
+     *
+     * @param days Number of days of the window, 0 for the default, at most {@link Gene#MAX_DAYS}
+     */
+    public void setDays(int days) {
+        if (days < 0 || days > Gene.MAX_DAYS)
+            throw new IllegalArgumentException("Number of days must be between 0 and " + Gene.MAX_DAYS + ": " + days);
+        this.days = days;
+    }
+
+    /**
+     * Getter method for {@code Date firstDate}
+     *
+     * @return The first day of the window
+     */
+    public Date getFirstDate() {
+        return (Date) firstDate.clone();
+    }
+
+    /**
+     * Setter method for {@code Date firstDate}
+     *
+     * @param firstDate The first day of the window
+     */
+    public void setFirstDate(Date firstDate) {
+        this.firstDate = (Date) firstDate.clone();
+    }
+
+    /**
+     * Getter method for {@code double badWeatherRate}
+     *
+     * @return Part of the days and venues with bad weather
+     */
+    public double getBadWeatherRate() {
+        return badWeatherRate;
+    }
+
+    /**
+     * Setter method for {@code double badWeatherRate}
+     *
+     * @param badWeatherRate Part of the days and venues with bad weather, between 0 and 1
+     */
+    public void setBadWeatherRate(double badWeatherRate) {
+        if (badWeatherRate < 0 || badWeatherRate > 1)
+            throw new IllegalArgumentException("Bad weather rate must be between 0 and 1: " + badWeatherRate);
+        this.badWeatherRate = badWeatherRate;
+    }
+
+    /**
+     * Getter method for {@code long seed}
+     *
+     * @return Seed of the weather
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Setter method for {@code long seed}
+     *
+     * @param seed Seed of the weather
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return String equivalent of the Object
+     */
+    @Override
+    public String toString() {
+        return String.format("%d teams, %d venues (%d neutral), %d days from %s, bad weather rate %.2f, seed %d",
+                teams, venues, neutralVenues, getWindow(), ((SimpleDateFormat) Data.dateFormat.clone()).format(firstDate),
+                badWeatherRate, seed);
+    }
+}
@@ -0,0 +1,254 @@
+package scheduling.constraint;
+
+import scheduling.GeneColumns;
+import scheduling.Population;
+import scheduling.ProblemInstance;
+import scheduling.pojo.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * This class computes the violations of the default constraints (see {@link ConstraintSet#defaults()}) for a block of
+ * schedules stored as columns (see {@link GeneColumns}). All the constraints are counted in a single pass over the
+ * genes of each schedule, reading the columns sequentially, instead of one pass per constraint through each
+ * {@link Schedule}, and the counters of a schedule are scanned once at the end.
+ * The evaluations made here are not added to the {@link ConstraintStatistics} of a run.
+ * An evaluator is not thread-safe, each thread uses its own through {@link #forCurrentThread()}.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class BatchEvaluator {
+
+    /**
+     * Number of schedules evaluated together when evaluating a population
+     */
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * The evaluator of each thread
+     */
+    private static final ThreadLocal<BatchEvaluator> EVALUATORS = ThreadLocal.withInitial(BatchEvaluator::new);
+
+    /**
+     * The problem the tables below have been built for
+     */
+    private ProblemInstance problem;
+
+    /**
+     * Number of times each default constraint appears in the constraint set of the problem
+     */
+    private int[] weights;
+
+    /**
+     * 1 for each day and venue with bad weather, at {@code day * venues + venue}
+     */
+    private byte[] badWeather;
+
+    /**
+     * Number of matches each venue should host
+     */
+    private int[] venueLoads;
+
+    /**
+     * Dimensions of the problem
+     */
+    private int teams;
+    private int venues;
+    private int days;
+
+    /**
+     * Counters of the schedule being evaluated, always left at 0 between two schedules
+     */
+    private int[] played;
+    private int[] homeGames;
+    private int[] hosted;
+    private int[] fixtures;
+    private int[] matchesOnDay;
+    private long[] teamsOnDay;
+
+    /**
+     * The block of columns used for evaluating a population, with its schedules and their violations
+     */
+    private GeneColumns block;
+    private final Schedule[] pending = new Schedule[BLOCK_SIZE];
+    private final int[] violations = new int[BLOCK_SIZE];
+
+    /**
+     * Gets the evaluator of the calling thread
+     *
+     * @return The evaluator owned by the calling thread
+     */
+    public static BatchEvaluator forCurrentThread() {
+        return EVALUATORS.get();
+    }
+
+    /**
+     * Checks whether the schedules of a problem can be evaluated in batch, i.e. whether its constraint set is only
+     * made of default constraints
+     *
+     * @param problem The problem instance
+     * @return true if the constraints of the problem are supported
+     */
+    public static boolean supports(ProblemInstance problem) {
+        return IncrementalEvaluator.supports(problem.getConstraints());
+    }
+
+    /**
+     * Computes the violations of the schedules of a range of slots of a store
+     *
+     * @param problem    The problem instance of the schedules
+     * @param columns    The store holding the schedules
+     * @param from       First slot evaluated
+     * @param to         Slot after the last one evaluated
+     * @param violations Array which is filled with the violations of each slot, starting at 0 for {@code from}
+     */
+    public void evaluate(ProblemInstance problem, GeneColumns columns, int from, int to, int[] violations) {
+        prepare(problem);
+        for (int slot = from; slot < to; slot++)
+            violations[slot - from] = countViolations(columns, slot);
+    }
+
+    /**
+     * Computes the fitness of every schedule of a range of a population whose genes have changed since its last
+     * evaluation, {@link #BLOCK_SIZE} schedules at a time. Schedules which cannot be evaluated in batch (without a
+     * problem, with constraints which are not supported, or with another number of genes than the others) are
+     * evaluated one by one.
+     *
+     * @param pop  The population
+     * @param from Position of the first schedule
+     * @param to   Position after the last schedule
+     * @return Number of schedules that had to be evaluated
+     */
+    public int evaluate(Population pop, int from, int to) {
+        int evaluations = 0;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            Schedule s = pop.get(i);
+            if (!s.isDirty())
+                continue;
+            evaluations++;
+            if (s.getProblem() == null || (s.getProblem() != problem && !supports(s.getProblem()))) {
+                s.evaluate();
+                continue;
+            }
+            if (count > 0 && (s.getProblem() != pending[0].getProblem() || s.size() != pending[0].size()))
+                count = flush(count);
+            if (block == null || block.getGeneCount() != s.size())
+                block = new GeneColumns(BLOCK_SIZE, s.size());
+            block.load(count, s.getGenes());
+            pending[count++] = s;
+            if (count == BLOCK_SIZE)
+                count = flush(count);
+        }
+        flush(count);
+        return evaluations;
+    }
+
+    /**
+     * Evaluates the schedules loaded in the block and stores their violations
+     *
+     * @param count Number of schedules in the block
+     * @return 0, the number of schedules left in the block
+     */
+    private int flush(int count) {
+        if (count == 0)
+            return 0;
+        evaluate(pending[0].getProblem(), block, 0, count, violations);
+        for (int i = 0; i < count; i++) {
+            pending[i].setViolations(violations[i]);
+            pending[i] = null;
+        }
+        return 0;
+    }
+
+    /**
+     * Builds the tables and counters for a problem, if it is not the one of the last evaluation
+     *
+     * @param problem The problem instance
+     */
+    private void prepare(ProblemInstance problem) {
+        if (problem == this.problem)
+            return;
+        weights = IncrementalEvaluator.weightsOf(problem.getConstraints());
+        teams = problem.getTeamCount();
+        venues = problem.getVenueCount();
+        days = problem.getDayCount();
+        badWeather = new byte[days * venues];
+        for (int day = 0; day < days; day++)
+            for (int venue = 0; venue < venues; venue++)
+                badWeather[day * venues + venue] = (byte) (problem.isBadWeather(day, venue) ? 1 : 0);
+        venueLoads = problem.getVenueLoads();
+        played = new int[teams];
+        homeGames = new int[teams];
+        hosted = new int[venues];
+        fixtures = new int[teams * teams];
+        matchesOnDay = new int[days];
+        teamsOnDay = new long[days];
+        this.problem = problem;
+    }
+
+    /**
+     * Counts the violations of the schedule of a slot in a single pass over its genes
+     *
+     * @param columns The store holding the schedule
+     * @param slot    Position of the schedule in the store
+     * @return Total number of violations
+     */
+    private int countViolations(GeneColumns columns, int slot) {
+        int start = slot * columns.getGeneCount();
+        int end = start + columns.getGeneCount();
+
+        // k matches on a day or of a fixture are k(k-1)/2 violations: the k-th one adds k-1
+        int weather = 0;
+        int sameDay = 0;
+        int duplicates = 0;
+        for (int i = start; i < end; i++) {
+            int day = columns.day(i);
+            int home = columns.home(i);
+            int away = columns.away(i);
+            int venue = columns.venue(i);
+            weather += badWeather[day * venues + venue];
+            sameDay += matchesOnDay[day]++;
+            duplicates += fixtures[home * teams + away]++;
+            played[home]++;
+            played[away]++;
+            homeGames[home]++;
+            hosted[venue]++;
+            teamsOnDay[day] |= (1L << home) | (1L << away);
+        }
+
+        int consecutive = 0;
+        for (int day = 0; day + 1 < days; day++)
+            consecutive += Long.bitCount(teamsOnDay[day] & teamsOnDay[day + 1]);
+        int gamesPerTeam = 0;
+        int home = 0;
+        for (int team = 0; team < teams; team++) {
+            if (played[team] != 0 && played[team] != 2 * teams - 2)
+                gamesPerTeam++;
+            if (homeGames[team] != 0 && homeGames[team] != teams - 1)
+                home++;
+        }
+        int venueLoad = 0;
+        for (int venue = 0; venue < venues; venue++)
+            if (hosted[venue] != 0 && hosted[venue] != venueLoads[venue])
+                venueLoad++;
+
+        // Clearing whole counters is a sequential fill, cheaper than visiting the genes again
+        Arrays.fill(played, 0);
+        Arrays.fill(homeGames, 0);
+        Arrays.fill(hosted, 0);
+        Arrays.fill(fixtures, 0);
+        Arrays.fill(matchesOnDay, 0);
+        Arrays.fill(teamsOnDay, 0);
+
+        return weights[IncrementalEvaluator.WEATHER] * weather
+                + weights[IncrementalEvaluator.SAME_DAY] * sameDay
+                + weights[IncrementalEvaluator.CONSECUTIVE_DAYS] * consecutive
+                + weights[IncrementalEvaluator.DUPLICATE_FIXTURE] * duplicates
+                + weights[IncrementalEvaluator.GAMES_PER_TEAM] * gamesPerTeam
+                + weights[IncrementalEvaluator.VENUE_LOAD] * venueLoad
+                + weights[IncrementalEvaluator.HOME_GAMES] * home;
+    }
+}
@@ -0,0 +1,35 @@
+package scheduling.constraint;
+
+import scheduling.pojo.Schedule;
+
+/**
+ * No team should play on two consecutive days
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class ConsecutiveDaysConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Consecutive days";
+    }
+
+    /**
+     * Counts the teams playing on two consecutive days
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        return evaluator.getDayIndex().countConsecutiveDayConflicts();
+    }
+}
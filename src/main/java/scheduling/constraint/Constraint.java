@@ -0,0 +1,33 @@
+package scheduling.constraint;
+
+import scheduling.pojo.Schedule;
+
+/**
+ * A single rule that a schedule should satisfy. The fitness of a schedule is derived from the total number of
+ * violations reported by all the constraints of the data set.
+ * Implementations are shared by all the threads and must not keep any state of their own between calls: the scratch
+ * space they need is taken from the {@link FitnessEvaluator} of the calling thread.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public interface Constraint {
+
+    /**
+     * Gets a short name of this constraint, used when reporting the statistics
+     *
+     * @return Name of the constraint
+     */
+    String getName();
+
+    /**
+     * Counts the number of times the schedule violates this constraint
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread, holding the day index of the schedule and the scratch
+     *                  buffers
+     * @return Number of violations
+     */
+    int countViolations(Schedule schedule, FitnessEvaluator evaluator);
+}
@@ -0,0 +1,122 @@
+package scheduling.constraint;
+
+import scheduling.pojo.Schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class holds the constraints registered for a data set and evaluates them over a schedule.
+ * The set of a data set is filled before the problem instance is built; the instance keeps a frozen copy of it (see
+ * {@link #freeze()}), which cannot be changed by the data set afterwards. The violations and time of each constraint
+ * are recorded into the {@link ConstraintStatistics} of the run attached to the evaluator, if any.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class ConstraintSet {
+
+    /**
+     * The registered constraints
+     */
+    private final List<Constraint> constraints;
+
+    /**
+     * Creates an empty set, to which constraints can be added
+     */
+    public ConstraintSet() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a set holding a list of constraints
+     *
+     * @param constraints The constraints, the list is kept as it is
+     */
+    private ConstraintSet(List<Constraint> constraints) {
+        this.constraints = constraints;
+    }
+
+    /**
+     * Creates a set with all the constraints of the world cup scheduling problem
+     *
+     * @return The default constraints
+     */
+    public static ConstraintSet defaults() {
+        ConstraintSet set = new ConstraintSet();
+        for (Constraint c : Arrays.asList(new WeatherConstraint(), new SameDayConstraint(),
+                new ConsecutiveDaysConstraint(), new DuplicateFixtureConstraint(), new GamesPerTeamConstraint(),
+                new VenueLoadConstraint(), new HomeGamesConstraint()))
+            set.add(c);
+        return set;
+    }
+
+    /**
+     * Creates an unmodifiable copy of this set, for a problem instance
+     *
+     * @return A set holding the constraints registered so far, to which no constraint can be added
+     */
+    public ConstraintSet freeze() {
+        return new ConstraintSet(Collections.unmodifiableList(new ArrayList<>(constraints)));
+    }
+
+    /**
+     * Registers a constraint. Must be done before the problem instance is built.
+     *
+     * @param constraint The constraint to be added
+     * @throws UnsupportedOperationException If the set is frozen
+     */
+    public void add(Constraint constraint) {
+        constraints.add(constraint);
+    }
+
+    /**
+     * Getter method for {@code constraints}
+     *
+     * @return The registered constraints
+     */
+    public List<Constraint> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Evaluates all the registered constraints over a schedule
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread, with the day index of the schedule already built
+     * @return Total number of violations
+     */
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        ConstraintStatistics statistics = evaluator.getStatistics();
+        int total = 0;
+        if (statistics == null) {
+            for (int i = 0; i < constraints.size(); i++)
+                total += constraints.get(i).countViolations(schedule, evaluator);
+            return total;
+        }
+        for (int i = 0; i < constraints.size(); i++) {
+            long start = System.nanoTime();
+            int count = constraints.get(i).countViolations(schedule, evaluator);
+            statistics.record(i, count, System.nanoTime() - start);
+            total += count;
+        }
+        statistics.recordEvaluation();
+        return total;
+    }
+
+    /**
+     * Convert the object into a String
+     *
+     * @return The names of the constraints
+     */
+    @Override
+    public String toString() {
+        StringBuilder sBuilder = new StringBuilder();
+        for (Constraint c : constraints)
+            sBuilder.append(sBuilder.length() == 0 ? "" : ", ").append(c.getName());
+        return sBuilder.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package scheduling.constraint;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class accumulates, for each constraint of a problem, the number of violations found and the time spent
+ * evaluating it during a run, so that the most expensive rules can be identified.
+ * The statistics belong to a single run: the evaluations of a thread are recorded into them while they are attached to
+ * its {@link FitnessEvaluator}, so concurrent runs over the same problem do not mix their numbers. They can be updated
+ * from several threads at once.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class ConstraintStatistics {
+
+    /**
+     * The constraints measured, and their statistics at the same positions
+     */
+    private final List<Constraint> constraints;
+    private final LongAdder[] violations;
+    private final LongAdder[] nanos;
+
+    /**
+     * Number of schedules evaluated
+     */
+    private final LongAdder evaluations = new LongAdder();
+
+    /**
+     * Creates empty statistics for the constraints of a set
+     *
+     * @param constraints The constraints of the problem of the run
+     */
+    public ConstraintStatistics(ConstraintSet constraints) {
+        this.constraints = constraints.getConstraints();
+        violations = new LongAdder[this.constraints.size()];
+        nanos = new LongAdder[this.constraints.size()];
+        for (int i = 0; i < violations.length; i++) {
+            violations[i] = new LongAdder();
+            nanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the evaluation of a constraint over a schedule
+     *
+     * @param index      Position of the constraint
+     * @param violations Number of violations found
+     * @param nanos      Time spent in nanoseconds
+     */
+    void record(int index, int violations, long nanos) {
+        this.violations[index].add(violations);
+        this.nanos[index].add(nanos);
+    }
+
+    /**
+     * Records the evaluation of a schedule over all the constraints
+     */
+    void recordEvaluation() {
+        evaluations.increment();
+    }
+
+    /**
+     * Gets the number of violations of a constraint found since the statistics were reset
+     *
+     * @param index Position of the constraint
+     * @return Total number of violations
+     */
+    public long getViolationCount(int index) {
+        return violations[index].sum();
+    }
+
+    /**
+     * Gets the time spent evaluating a constraint since the statistics were reset
+     *
+     * @param index Position of the constraint
+     * @return Cumulative evaluation time in nanoseconds
+     */
+    public long getEvaluationTime(int index) {
+        return nanos[index].sum();
+    }
+
+    /**
+     * Gets the number of schedules evaluated since the statistics were reset
+     *
+     * @return Number of evaluations
+     */
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * Clears the statistics of all constraints
+     */
+    public void reset() {
+        for (int i = 0; i < violations.length; i++) {
+            violations[i].reset();
+            nanos[i].reset();
+        }
+        evaluations.reset();
+    }
+
+    /**
+     * Convert the statistics into a String
+     *
+     * @return One line per constraint with its violations and evaluation time
+     */
+    @Override
+    public String toString() {
+        StringBuilder sBuilder = new StringBuilder(String.format("Evaluations = %d", getEvaluations()));
+        for (int i = 0; i < violations.length; i++) {
+            sBuilder.append(String.format("%n%-20s violations = %-12d time = %.3f ms", constraints.get(i).getName(),
+                    getViolationCount(i), getEvaluationTime(i) / 1e6));
+        }
+        return sBuilder.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.pojo.Schedule;
+
+/**
+ * Two matches should not be same, i.e. the same home team should not host the same away team more than once
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class DuplicateFixtureConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Duplicate fixture";
+    }
+
+    /**
+     * Counts the repeated (home team, away team) pairs
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        int teams = schedule.getProblem().getTeamCount();
+        int[] fixtureCount = evaluator.counters(teams * teams);
+
+        // Each earlier copy of a fixture is one violation
+        int violations = 0;
+        for (int gene : schedule.getGenes())
+            violations += fixtureCount[Gene.home(gene) * teams + Gene.away(gene)]++;
+        return violations;
+    }
+}
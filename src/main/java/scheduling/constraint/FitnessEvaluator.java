@@ -0,0 +1,102 @@
+package scheduling.constraint;
+
+import scheduling.DayIndex;
+import scheduling.pojo.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * This class computes the violations of a schedule, using scratch buffers which are reused from one schedule to the
+ * next. A schedule then only holds its genes: the day index and the counters of the constraints live here, once per
+ * thread, instead of once per schedule or once per evaluation.
+ * An evaluator is not thread-safe, each thread uses its own through {@link #forCurrentThread()}.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class FitnessEvaluator {
+
+    /**
+     * The evaluator of each thread
+     */
+    private static final ThreadLocal<FitnessEvaluator> EVALUATORS = ThreadLocal.withInitial(FitnessEvaluator::new);
+
+    /**
+     * The matches of the schedule being evaluated, bucketed by day
+     */
+    private final DayIndex dayIndex = new DayIndex();
+
+    /**
+     * Counters shared by the constraints, which are evaluated one after the other
+     */
+    private int[] counters = new int[0];
+
+    /**
+     * Statistics of the run the evaluations of this thread are recorded into, null if they are not recorded
+     */
+    private ConstraintStatistics statistics;
+
+    /**
+     * Gets the evaluator of the calling thread
+     *
+     * @return The evaluator owned by the calling thread
+     */
+    public static FitnessEvaluator forCurrentThread() {
+        return EVALUATORS.get();
+    }
+
+    /**
+     * Counts the violations of all the constraints of the problem of a schedule
+     *
+     * @param schedule The schedule to be checked
+     * @return Total number of violations
+     */
+    public int countViolations(Schedule schedule) {
+        dayIndex.build(schedule.getGenes(), schedule.getProblem().getDayCount());
+        return schedule.getProblem().getConstraints().countViolations(schedule, this);
+    }
+
+    /**
+     * Gets the matches of the schedule being evaluated bucketed by day
+     *
+     * @return The day index of the schedule being evaluated
+     */
+    public DayIndex getDayIndex() {
+        return dayIndex;
+    }
+
+    /**
+     * Getter method for {@code ConstraintStatistics statistics}
+     *
+     * @return The statistics the evaluations are recorded into, null if they are not recorded
+     */
+    public ConstraintStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Setter method for {@code ConstraintStatistics statistics}. A thread of a pool shared by several runs attaches
+     * the statistics of a run while it evaluates schedules for it, and restores the previous ones afterwards.
+     *
+     * @param statistics The statistics the evaluations are recorded into, null for none
+     */
+    public void setStatistics(ConstraintStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Gets an array of counters set to 0. The array is shared by all the constraints, so it is only valid until the
+     * next call.
+     *
+     * @param size Number of counters needed
+     * @return Array of at least {@code size} counters set to 0
+     */
+    public int[] counters(int size) {
+        if (counters.length < size)
+            counters = new int[size];
+        else
+            Arrays.fill(counters, 0, size, 0);
+        return counters;
+    }
+}
@@ -0,0 +1,49 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.pojo.Schedule;
+
+/**
+ * Each team should have played 2 matches with each other teams
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class GamesPerTeamConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Games per team";
+    }
+
+    /**
+     * Counts the teams which do not play exactly two matches against every other team
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        int teams = schedule.getProblem().getTeamCount();
+        int[] matchesPlayed = evaluator.counters(teams);
+        for (int gene : schedule.getGenes()) {
+            matchesPlayed[Gene.home(gene)]++;
+            matchesPlayed[Gene.away(gene)]++;
+        }
+
+        int violations = 0;
+        for (int team = 0; team < teams; team++) {
+            int played = matchesPlayed[team];
+            if (played != 0 && played != (2 * teams) - 2)
+                violations++;
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,47 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.pojo.Schedule;
+
+/**
+ * Each team should have played exactly one match against each team on their home ground
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class HomeGamesConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Home games";
+    }
+
+    /**
+     * Counts the teams which do not play exactly one home match against every other team
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        int teams = schedule.getProblem().getTeamCount();
+        int[] homeMatches = evaluator.counters(teams);
+        for (int gene : schedule.getGenes())
+            homeMatches[Gene.home(gene)]++;
+
+        int violations = 0;
+        for (int team = 0; team < teams; team++) {
+            int home = homeMatches[team];
+            if (home != 0 && home != (teams - 1))
+                violations++;
+        }
+        return violations;
+    }
+}
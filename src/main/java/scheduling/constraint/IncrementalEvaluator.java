@@ -0,0 +1,301 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.ProblemInstance;
+import scheduling.pojo.Schedule;
+
+/**
+ * This class keeps the counters of the constraints for one schedule while its genes are being changed, so that the
+ * number of violations follows each change in O(1) instead of being computed again over all the genes: replacing a
+ * gene removes the contribution of the old match from the counters and adds the one of the new match.
+ * The counters are those of the default constraints (see {@link ConstraintSet#defaults()}): games per team, home games
+ * and matches per venue, matches per fixture, matches per day and matches per team and day. A constraint set with any
+ * other constraint cannot be evaluated incrementally, see {@link #supports(ConstraintSet)}.
+ * The counters live in the evaluator of each thread rather than in every schedule, so that they do not multiply the
+ * memory taken by a population: a schedule is attached, changed, then detached with its exact number of violations.
+ * An evaluator is not thread-safe, each thread uses its own through {@link #forCurrentThread()}.
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class IncrementalEvaluator {
+
+    /**
+     * The evaluator of each thread
+     */
+    private static final ThreadLocal<IncrementalEvaluator> EVALUATORS =
+            ThreadLocal.withInitial(IncrementalEvaluator::new);
+
+    /**
+     * Positions of the default constraints in the weights
+     */
+    static final int WEATHER = 0;
+    static final int SAME_DAY = 1;
+    static final int CONSECUTIVE_DAYS = 2;
+    static final int DUPLICATE_FIXTURE = 3;
+    static final int GAMES_PER_TEAM = 4;
+    static final int VENUE_LOAD = 5;
+    static final int HOME_GAMES = 6;
+
+    /**
+     * Number of times each default constraint appears in the constraint set of the attached schedule
+     */
+    private int[] weights = new int[7];
+
+    /**
+     * The constraint set the weights have been computed for
+     */
+    private ConstraintSet constraints;
+
+    /**
+     * The schedule being changed and its problem instance, null when no schedule is attached
+     */
+    private Schedule schedule;
+    private ProblemInstance problem;
+
+    /**
+     * Dimensions of the problem of the attached schedule
+     */
+    private int teams;
+    private int days;
+
+    /**
+     * Counters of the matches of the attached schedule: per team, per team at home, per venue, per (home, away)
+     * fixture, per day and per (day, team)
+     */
+    private int[] played = new int[0];
+    private int[] homeGames = new int[0];
+    private int[] hosted = new int[0];
+    private int[] fixtures = new int[0];
+    private int[] matchesOnDay = new int[0];
+    private int[] teamOnDay = new int[0];
+
+    /**
+     * Number of violations of the attached schedule
+     */
+    private int violations;
+
+    /**
+     * Gets the evaluator of the calling thread
+     *
+     * @return The evaluator owned by the calling thread
+     */
+    public static IncrementalEvaluator forCurrentThread() {
+        return EVALUATORS.get();
+    }
+
+    /**
+     * Checks whether the violations of a constraint set can be followed incrementally, i.e. whether it is only made
+     * of default constraints
+     *
+     * @param constraints The constraint set
+     * @return true if every constraint of the set is one of the default constraints
+     */
+    public static boolean supports(ConstraintSet constraints) {
+        for (Constraint c : constraints.getConstraints())
+            if (kindOf(c) < 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * Counts how many times each default constraint appears in a constraint set
+     *
+     * @param constraints The constraint set, made of default constraints only
+     * @return The number of occurrences of each default constraint, indexed by its position in the weights
+     */
+    static int[] weightsOf(ConstraintSet constraints) {
+        if (!supports(constraints))
+            throw new IllegalStateException("The constraints are not all default constraints: "
+                    + constraints.getConstraints());
+        int[] weights = new int[7];
+        for (Constraint c : constraints.getConstraints())
+            weights[kindOf(c)]++;
+        return weights;
+    }
+
+    /**
+     * Gets the position of a default constraint in the weights
+     *
+     * @param constraint The constraint
+     * @return Position in the weights, -1 if this is not a default constraint
+     */
+    private static int kindOf(Constraint constraint) {
+        if (constraint instanceof WeatherConstraint)
+            return WEATHER;
+        if (constraint instanceof SameDayConstraint)
+            return SAME_DAY;
+        if (constraint instanceof ConsecutiveDaysConstraint)
+            return CONSECUTIVE_DAYS;
+        if (constraint instanceof DuplicateFixtureConstraint)
+            return DUPLICATE_FIXTURE;
+        if (constraint instanceof GamesPerTeamConstraint)
+            return GAMES_PER_TEAM;
+        if (constraint instanceof VenueLoadConstraint)
+            return VENUE_LOAD;
+        if (constraint instanceof HomeGamesConstraint)
+            return HOME_GAMES;
+        return -1;
+    }
+
+    /**
+     * Attaches a schedule, filling the counters with all its genes. Any schedule still attached is detached first.
+     *
+     * @param schedule The schedule whose genes are going to be changed
+     */
+    public void attach(Schedule schedule) {
+        detach();
+        ProblemInstance problem = schedule.getProblem();
+        if (problem.getConstraints() != constraints) {
+            weights = weightsOf(problem.getConstraints());
+            constraints = problem.getConstraints();
+        }
+
+        this.schedule = schedule;
+        this.problem = problem;
+        teams = problem.getTeamCount();
+        days = problem.getDayCount();
+        played = reserve(played, teams);
+        homeGames = reserve(homeGames, teams);
+        hosted = reserve(hosted, problem.getVenueCount());
+        fixtures = reserve(fixtures, teams * teams);
+        matchesOnDay = reserve(matchesOnDay, days);
+        teamOnDay = reserve(teamOnDay, days * teams);
+
+        violations = 0;
+        for (int gene : schedule.getGenes())
+            violations += change(gene, 1);
+    }
+
+    /**
+     * Gets the counters of at least a size. The counters are always left at 0 when a schedule is detached, so they
+     * only have to be cleared when they are created.
+     *
+     * @param counters The current counters
+     * @param size     Number of counters needed
+     * @return The counters, or new ones if they were too short
+     */
+    private static int[] reserve(int[] counters, int size) {
+        return counters.length < size ? new int[size] : counters;
+    }
+
+    /**
+     * Gets the number of violations of the attached schedule
+     *
+     * @return Total number of violations of the schedule as it is now
+     */
+    public int getViolations() {
+        return violations;
+    }
+
+    /**
+     * Computes the change in the number of violations if a gene of the attached schedule was replaced, without
+     * replacing it
+     *
+     * @param index Position of the gene
+     * @param gene  The new encoded match
+     * @return Number of violations added, negative if the change removes violations
+     */
+    public int delta(int index, int gene) {
+        int old = schedule.getGenes()[index];
+        int delta = change(old, -1) + change(gene, 1);
+        change(gene, -1);
+        change(old, 1);
+        return delta;
+    }
+
+    /**
+     * Replaces a gene of the attached schedule and updates the number of violations
+     *
+     * @param index Position of the gene
+     * @param gene  The new encoded match
+     * @return Number of violations of the schedule after the change
+     */
+    public int setGene(int index, int gene) {
+        violations += change(schedule.getGenes()[index], -1) + change(gene, 1);
+        schedule.setGene(index, gene);
+        return violations;
+    }
+
+    /**
+     * Detaches the schedule, which keeps its number of violations as if it had been evaluated, and clears the
+     * counters by removing its genes again. Does nothing if no schedule is attached.
+     */
+    public void detach() {
+        if (schedule == null)
+            return;
+        for (int gene : schedule.getGenes())
+            change(gene, -1);
+        schedule.setViolations(violations);
+        schedule = null;
+        problem = null;
+    }
+
+    /**
+     * Adds a match to the counters or removes it
+     *
+     * @param gene The encoded match
+     * @param step 1 to add the match, -1 to remove it
+     * @return Change in the number of violations
+     */
+    private int change(int gene, int step) {
+        int day = Gene.day(gene);
+        int home = Gene.home(gene);
+        int away = Gene.away(gene);
+        int venue = Gene.venue(gene);
+
+        int delta = 0;
+        if (problem.isBadWeather(day, venue))
+            delta += step * weights[WEATHER];
+        // k matches of a day or a fixture are k(k-1)/2 violations: the k-th one adds k-1
+        delta += weights[SAME_DAY] * (step > 0 ? matchesOnDay[day]++ : -(--matchesOnDay[day]));
+        int fixture = home * teams + away;
+        delta += weights[DUPLICATE_FIXTURE] * (step > 0 ? fixtures[fixture]++ : -(--fixtures[fixture]));
+        delta += weights[CONSECUTIVE_DAYS] * (playing(day, home, step) + playing(day, away, step));
+        delta += weights[GAMES_PER_TEAM] * (count(played, home, step, 2 * teams - 2)
+                + count(played, away, step, 2 * teams - 2));
+        delta += weights[HOME_GAMES] * count(homeGames, home, step, teams - 1);
+        delta += weights[VENUE_LOAD] * count(hosted, venue, step, problem.getVenueLoads()[venue]);
+        return delta;
+    }
+
+    /**
+     * Updates a counter which is a violation when it is neither 0 nor the expected number
+     *
+     * @param counters The counters
+     * @param index    Position of the counter
+     * @param step     Change of the counter
+     * @param expected The expected number
+     * @return Change in the number of violations
+     */
+    private static int count(int[] counters, int index, int step, int expected) {
+        int before = counters[index] != 0 && counters[index] != expected ? 1 : 0;
+        counters[index] += step;
+        int after = counters[index] != 0 && counters[index] != expected ? 1 : 0;
+        return after - before;
+    }
+
+    /**
+     * Updates the number of matches of a team on a day. A team playing on a day is a violation for each neighbouring
+     * day on which it plays, so the violations only change when the team starts or stops playing on that day.
+     *
+     * @param day  Day index
+     * @param team Team id
+     * @param step Change of the number of matches
+     * @return Change in the number of violations
+     */
+    private int playing(int day, int team, int step) {
+        int slot = day * teams + team;
+        boolean before = teamOnDay[slot] != 0;
+        teamOnDay[slot] += step;
+        if (before == (teamOnDay[slot] != 0))
+            return 0;
+        int neighbours = 0;
+        if (day > 0 && teamOnDay[slot - teams] != 0)
+            neighbours++;
+        if (day + 1 < days && teamOnDay[slot + teams] != 0)
+            neighbours++;
+        return step * neighbours;
+    }
+}
@@ -0,0 +1,49 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.pojo.Schedule;
+
+/**
+ * Each location should have hosted exactly one match for each team
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class VenueLoadConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Venue load";
+    }
+
+    /**
+     * Counts the locations which do not host exactly the home matches of the teams playing there (see
+     * {@link scheduling.ProblemInstance#getVenueLoads()}), one match for each opponent of each of these teams
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        int venues = schedule.getProblem().getVenueCount();
+        int[] loads = schedule.getProblem().getVenueLoads();
+        int[] matchesInLocation = evaluator.counters(venues);
+        for (int gene : schedule.getGenes())
+            matchesInLocation[Gene.venue(gene)]++;
+
+        int violations = 0;
+        for (int venue = 0; venue < venues; venue++) {
+            int hosted = matchesInLocation[venue];
+            if (hosted != 0 && hosted != loads[venue])
+                violations++;
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,44 @@
+package scheduling.constraint;
+
+import scheduling.Gene;
+import scheduling.ProblemInstance;
+import scheduling.pojo.Schedule;
+
+/**
+ * Try to avoid scheduling a match on a day with bad weather
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+public class WeatherConstraint implements Constraint {
+
+    /**
+     * Gets the name of this constraint
+     *
+     * @return Name of the constraint
+     */
+    @Override
+    public String getName() {
+        return "Weather";
+    }
+
+    /**
+     * Counts the matches scheduled at a location on a day with bad weather
+     *
+     * @param schedule  The schedule to be checked
+     * @param evaluator The evaluator of the calling thread
+     * @return Number of violations
+     */
+    @Override
+    public int countViolations(Schedule schedule, FitnessEvaluator evaluator) {
+        ProblemInstance problem = schedule.getProblem();
+
+        int violations = 0;
+        for (int gene : schedule.getGenes()) {
+            if (problem.isBadWeather(Gene.day(gene), Gene.venue(gene)))
+                violations++;
+        }
+        return violations;
+    }
+}
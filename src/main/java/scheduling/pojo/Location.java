@@ -3,7 +3,8 @@ package scheduling.pojo;
 import java.util.Objects;
 
 /**
- * This class contains location for matches
+ * This class contains location for matches. Two locations with the same name are equal; the hash code is computed
+ * once. The id of a location in a gene is its position in the data set, see {@link scheduling.ProblemInstance}.
  *
  * @author Rupam Tiwari, Utkarsha Pampatwar
  * @version 1.0
@@ -15,6 +16,11 @@ public class Location {
      */
     private String locationName;
 
+    /**
+     * Hash code of the name
+     */
+    private final int hash;
+
     /**
      * Creates an instance with passed location
      *
@@ -22,6 +28,7 @@ public class Location {
      */
     public Location(String locationName) {
         this.locationName = locationName;
+        this.hash = Objects.hashCode(locationName);
     }
 
     /**
@@ -44,7 +51,7 @@ public class Location {
         if (this == o) return true;
         if (!(o instanceof Location)) return false;
         Location location = (Location) o;
-        return Objects.equals(locationName, location.locationName);
+        return hash == location.hash && Objects.equals(locationName, location.locationName);
     }
 
     /**
@@ -54,8 +61,7 @@ public class Location {
      */
     @Override
     public int hashCode() {
-
-        return Objects.hash(locationName);
+        return hash;
     }
 
     /**
@@ -1,9 +1,11 @@
 package scheduling.pojo;
 
 import scheduling.Data;
+import scheduling.Gene;
+import scheduling.ProblemInstance;
+import scheduling.RandomSource;
+import scheduling.constraint.FitnessEvaluator;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -17,58 +19,63 @@ import java.util.*;
 public class Schedule {
 
     /**
-     * This hash-map stores the probability of rain for each day at each location
+     * This stores all matches in this schedule, each match encoded as a gene (see {@link Gene})
      */
-    private HashMap<String, HashMap<Location, Integer>> weatherIndex;
+    private int[] genes;
 
     /**
-     * This stores the number of matches played by each team
-     */
-    private HashMap<Team, Integer> matchesPlayed;
-
-    /**
-     * This stores the number of matches played in home-ground by each team
+     * This stores the fitness of this schedule
      */
-    private HashMap<Team, Integer> homeMatches;
+    private double fitness;
 
     /**
-     * This stores the number of matches played at each location
+     * This stores the total number of violations in this schedule
      */
-    private HashMap<Location, Integer> matchesInLocation;
+    private int violations;
 
     /**
-     * This stores the list of all matches in this schedule
+     * Indicates whether the genes have changed since the fitness was last computed
      */
-    private ArrayList<Match> matchList;
+    private boolean dirty;
 
     /**
-     * This stores the fitness of this schedule
+     * The frozen problem instance this schedule is made for, shared with all the other schedules
      */
-    private Double fitness;
+    private ProblemInstance problem;
 
     /**
-     * This stores the total number of violations in this schedule
+     * Creates an instance of Schedule based on the problem sent
+     *
+     * @param problem The problem instance for which the schedule has to be made
      */
-    private int violations;
+    public Schedule(ProblemInstance problem) {
+        this(problem, new RandomSource());
+    }
 
     /**
-     * scheduling.Data variable to store all the data
+     * Creates an instance of Schedule based on the problem sent, with matches drawn from the random source passed
+     *
+     * @param problem The problem instance for which the schedule has to be made
+     * @param random  Source of random numbers of the calling thread
      */
-    private Data data;
+    public Schedule(ProblemInstance problem, RandomSource random) {
+        fitness = (double) -1;
+        changed();
+        this.problem = problem;
+        initialize(random);
+    }
 
     /**
-     * Creates an instance of Schedule based on the data sent
+     * Creates an instance of Schedule with the genes passed. Used when creating the children during crossover.
      *
-     * @param data scheduling.Data set using which the schedule has to be made
+     * @param problem The problem instance for which the schedule has been made
+     * @param genes   The encoded matches of this schedule
      */
-    public Schedule(Data data) {
+    public Schedule(ProblemInstance problem, int[] genes) {
         fitness = (double) -1;
-        matchList = new ArrayList<>();
-        matchesPlayed = new HashMap<>();
-        homeMatches = new HashMap<>();
-        matchesInLocation = new HashMap<>();
-        this.data = data;
-        initialize();
+        changed();
+        this.problem = problem;
+        this.genes = genes;
     }
 
     /**
@@ -76,70 +83,86 @@ public class Schedule {
      */
     public Schedule() {
         fitness = (double) -1;
-        matchList = new ArrayList<>();
-        matchesPlayed = new HashMap<>();
-        homeMatches = new HashMap<>();
-        matchesInLocation = new HashMap<>();
-        data = null;
+        changed();
+        genes = new int[0];
+        problem = null;
     }
 
     /**
      * This method initializes schedule randomly based on the total data-set
+     *
+     * @param random Source of random numbers of the calling thread
      */
-    private void initialize() {
-        weatherIndex = data.getWeather();
-        for (Team team : data.getTeamList()) {
-            homeMatches.put(team, 0);
-            matchesPlayed.put(team, 0);
-        }
-        for (Location location : data.getLocationList()) {
-            matchesInLocation.put(location, 0);
-        }
+    private void initialize(RandomSource random) {
+        int teams = problem.getTeamCount();
+        int totalMatches = teams * (teams - 1);
 
-        int totalMatches = data.getTeamList().size() * (data.getTeamList().size() - 1);
+        genes = new int[totalMatches];
+        for (int i = 0; i < totalMatches; i++)
+            genes[i] = problem.randomGene(random);
+    }
 
-        for (int i = 0; i < totalMatches; i++) {
-            Team homeTeam = data.getTeamList().get((int) (data.getTeamList().size() * Math.random()));
-            Team opponent;
-            while ((opponent = data.getTeamList().get((int) (data.getTeamList().size() * Math.random()))).equals(homeTeam));
-            Date d = data.getDates().get((int) (data.getDates().size() * Math.random()));
+    /**
+     * Creates a copy of this schedule, keeping the computed fitness
+     *
+     * @return The copy of this schedule
+     */
+    public Schedule copy() {
+        Schedule copy = new Schedule(problem, genes.clone());
+        copy.fitness = fitness;
+        copy.violations = violations;
+        copy.dirty = dirty;
+        return copy;
+    }
 
-            matchList.add(new Match(d, homeTeam, opponent, homeTeam.getHomeGround()));
-        }
+    /**
+     * This function sorts the matches by the match's date. The fitness does not depend on the order of the matches,
+     * this is only useful for printing the schedule.
+     */
+    public void sortMatchesByDate() {
+        Gene.sortByDay(genes);
+        changed();
+    }
 
-        sortMatchesByDate();
+    /**
+     * Getter method for {@code genes}. The returned array must not be modified, use {@link #setGene(int, int)}
+     * instead so that the cached fitness is invalidated.
+     *
+     * @return All matches of this schedule, encoded as genes
+     */
+    public int[] getGenes() {
+        return genes;
     }
 
     /**
-     * This function sorts the matches by the match's date
+     * Replaces a single gene of this schedule
+     *
+     * @param index Position of the gene
+     * @param gene  The new encoded match
      */
-    public void sortMatchesByDate() {
-        matchList.sort((f1, f2) -> {
-            if (f1.getDate().after(f2.getDate()))
-                return 1;
-            else if (f1.getDate().before(f2.getDate()))
-                return -1;
-            else
-                return 0;
-        });
+    public void setGene(int index, int gene) {
+        genes[index] = gene;
+        changed();
     }
 
     /**
-     * Getter method for {@code matchList}
+     * Gets the matches of this schedule. The matches are decoded from the genes when they are read, so this list
+     * should only be used for printing or for filling the schedule manually.
      *
      * @return List of all matches in this schedule
      */
-    public ArrayList<Match> getMatchList() {
-        return matchList;
+    public List<Match> getMatchList() {
+        return new MatchList();
     }
 
     /**
-     * This method calculates and returns the fitness of this schedule
+     * This method returns the fitness of this schedule. The fitness is only computed again if the genes have changed
+     * since the last computation.
      *
      * @return fitness of this schedule
      */
-    public Double getFitness() {
-        fitness = computeFitness();
+    public double getFitness() {
+        evaluate();
         return fitness;
     }
 
@@ -149,25 +172,69 @@ public class Schedule {
      * @return number of violations
      */
     public int getViolations() {
+        evaluate();
         return violations;
     }
 
     /**
-     * Setter method for {@code scheduling.Data data}
+     * Sets the number of violations of this schedule as it is now, computed by the caller without a full evaluation
+     * (see {@link scheduling.constraint.IncrementalEvaluator}). The fitness is derived from it and is valid until the
+     * genes change again.
      *
-     * @param data The data that has to be used for this schedule
+     * @param violations Number of violations of the current genes
      */
-    public void setData(Data data) {
-        this.data = data;
+    public void setViolations(int violations) {
+        this.violations = violations;
+        fitness = (double) 1 / (1 + violations);
+        dirty = false;
+    }
+
+    /**
+     * Computes the fitness if the cached value is no longer valid
+     *
+     * @return true if the fitness had to be computed
+     */
+    public boolean evaluate() {
+        if (!dirty)
+            return false;
+        computeFitness();
+        return true;
+    }
+
+    /**
+     * Indicates whether the genes have changed since the fitness was last computed
+     *
+     * @return true if the cached fitness is no longer valid
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Invalidates the cached fitness after the genes have changed
+     */
+    private void changed() {
+        dirty = true;
     }
 
     /**
-     * Setter method for the variable {@code HashMap<String, HashMap<Location, Integer>> weatherIndex}
+     * Getter method for {@code ProblemInstance problem}
      *
-     * @param weatherIndex The HashMap of weather index (Probability for bad weather)
+     * @return The problem instance this schedule is made for
      */
-    public void setWeatherIndex(HashMap<String, HashMap<Location, Integer>> weatherIndex) {
-        this.weatherIndex = weatherIndex;
+    public ProblemInstance getProblem() {
+        return problem;
+    }
+
+    /**
+     * Sets the data set this schedule is made from. The schedule uses the snapshot of the data set, which is built
+     * at the first call, so the data set has to be filled before.
+     *
+     * @param data The data that has to be used for this schedule
+     */
+    public void setData(Data data) {
+        this.problem = data.getInstance();
+        changed();
     }
 
     /**
@@ -176,139 +243,77 @@ public class Schedule {
      * @return size of the matches list
      */
     public int size() {
-        return matchList.size();
+        return genes.length;
     }
 
     /**
-     * This method calculates the fitness of this schedule with respect to the criteria needed.
+     * This method calculates the fitness of this schedule with respect to the constraints of the problem, using the
+     * scratch buffers of the evaluator of the calling thread.
      *
      * @return fitness of this schedule
      */
     public double computeFitness() {
-        violations = 0;
-
-        matchesPlayed.clear();
-        matchesInLocation.clear();
-        homeMatches.clear();
-        for (int i = 0; i < matchList.size(); i++) {
-            Match f1 = matchList.get(i);
-
-            // Adding penalties for scheduling matches where the probability of raining is high
-            int weatherIndex = this.weatherIndex.get(Data.dateFormat.format(f1.getDate())).get(f1.getLocation());
-            if (weatherIndex > 70){
-                violations++;
-//                if(violations == 1)
-//                    System.out.println("Bad Weather violation");
-            }
-
-            // Calculation of total matches played by each team
-            if (matchesPlayed.containsKey(f1.getTeam1()))
-                matchesPlayed.put(f1.getTeam1(), matchesPlayed.get(f1.getTeam1()) + 1);
-            else
-                matchesPlayed.put(f1.getTeam1(), 1);
-
-            if (matchesPlayed.containsKey(f1.getTeam2()))
-                matchesPlayed.put(f1.getTeam2(), matchesPlayed.get(f1.getTeam2()) + 1);
-            else
-                matchesPlayed.put(f1.getTeam2(), 1);
-
-            // Calculation of total matches played by each location
-            if (matchesInLocation.containsKey(f1.getLocation()))
-                matchesInLocation.put(f1.getLocation(), matchesInLocation.get(f1.getLocation()) + 1);
-            else
-                matchesInLocation.put(f1.getLocation(), 1);
-
-            // Calculation of total matches played at home ground
-            if (homeMatches.containsKey(f1.getTeam1()))
-                homeMatches.put(f1.getTeam1(), homeMatches.get(f1.getTeam1()) + 1);
-            else
-                homeMatches.put(f1.getTeam1(), 1);
-
-            // Two matches should not happen on the same day
-            Match f2;
-            int j = 0;
-            while ((i + (++j)) < matchList.size()) {
-                f2 = matchList.get(i + j);
-                if (Data.dateFormat.format(f1.getDate()).equals(Data.dateFormat.format(f2.getDate()))) {
-                    violations++;
-//                    if(violations == 1)
-//                        System.out.println("Two match Same Day violation");
-                } else {
-                    break;
-                }
-            }
-
-            // Computing next day
-            Date currentDate = f1.getDate();
-            LocalDateTime localDateTime = currentDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-            localDateTime = localDateTime.plusDays(1);
-            Date currentDatePlusOneDay = Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
-
-            // Same team should not play on consecutive dates
-            j = 0;
-            while ((i + (++j)) < matchList.size()) {
-                f2 = matchList.get(i + j);
-                if (Data.dateFormat.format(currentDatePlusOneDay).equals(Data.dateFormat.format(f2.getDate()))) {
-                    if (f1.getTeam2().equals(f2.getTeam2()) ||
-                            f1.getTeam2().equals(f2.getTeam1()) ||
-                            f1.getTeam1().equals(f2.getTeam1()) ||
-                            f1.getTeam1().equals(f2.getTeam2())) {
-                        violations++;
-//                        if(violations == 1)
-//                            System.out.println("Consecutive Day violation");
-                    }
-                } else {
-                    break;
-                }
-            }
-
-            // Two matches should not be same
-            j = 0;
-            while ((i + (++j)) < matchList.size()) {
-                f2 = matchList.get(i + j);
-                if (f1.getTeam1().equals(f2.getTeam1()) && f1.getTeam2().equals(f2.getTeam2()))
-                    violations++;
-//                if(violations == 1)
-//                    System.out.println("Same match violation");
-            }
-        }
-
-        // Each team should have played 2 matches with each other teams
-        Iterator<Map.Entry<Team, Integer>> entries = matchesPlayed.entrySet().iterator();
-        while (entries.hasNext()) {
-            Map.Entry<Team, Integer> entry = entries.next();
+        violations = FitnessEvaluator.forCurrentThread().countViolations(this);
+        fitness = (double) 1 / (1 + violations);
+        dirty = false;
+        return fitness;
+    }
 
-            if (entry.getValue() != (2 * data.getTeamList().size()) - 2) {
-                violations++;
-//                if(violations == 1)
-//                    System.out.println("Each Team Played 2 match with each other violation");
-            }
+    /**
+     * A view of the genes as a list of matches. Matches are decoded when read and encoded when written.
+     */
+    private class MatchList extends AbstractList<Match> {
+
+        /**
+         * Decodes the gene at the given position
+         *
+         * @param index Position of the match
+         * @return The decoded match
+         */
+        @Override
+        public Match get(int index) {
+            return problem.decode(genes[index]);
         }
 
-        // Each location should have hosted exactly one match for each team
-        Iterator<Map.Entry<Location, Integer>> entries2 = matchesInLocation.entrySet().iterator();
-        while (entries2.hasNext()) {
-            Map.Entry<Location, Integer> entry2 = entries2.next();
-
-            if (entry2.getValue() != (data.getTeamList().size() - 1)) {
-                violations++;
-//                if(violations == 1)
-//                    System.out.println("each location host one match per team violation");
-            }
+        /**
+         * Replaces the gene at the given position
+         *
+         * @param index Position of the match
+         * @param match The new match
+         * @return The match which was replaced
+         */
+        @Override
+        public Match set(int index, Match match) {
+            Match previous = get(index);
+            setGene(index, problem.encode(match));
+            return previous;
         }
 
-        // Each team should have played exactly one match against each team on their home ground
-        Iterator<Map.Entry<Team, Integer>> entries3 = homeMatches.entrySet().iterator();
-        while (entries3.hasNext()) {
-            Map.Entry<Team, Integer> entry3 = entries3.next();
-
-            if (entry3.getValue() != (data.getTeamList().size() - 1)) {
-                violations++;
-//                if(violations == 1)
-//                    System.out.println("one match per team at homeground violation");
-            }
+        /**
+         * Inserts a gene at the given position
+         *
+         * @param index Position of the match
+         * @param match The new match
+         */
+        @Override
+        public void add(int index, Match match) {
+            int gene = problem.encode(match);
+            int[] grown = new int[genes.length + 1];
+            System.arraycopy(genes, 0, grown, 0, index);
+            System.arraycopy(genes, index, grown, index + 1, genes.length - index);
+            grown[index] = gene;
+            genes = grown;
+            changed();
         }
 
-        return (double) 1 / (1 + violations);
+        /**
+         * Gets the number of matches
+         *
+         * @return Total number of matches
+         */
+        @Override
+        public int size() {
+            return genes.length;
+        }
     }
 }
@@ -3,7 +3,8 @@ package scheduling.pojo;
 import java.util.Objects;
 
 /**
- * This class contains team information
+ * This class contains team information. Two teams with the same name and home ground are equal; the hash code is
+ * computed once. The id of a team in a gene is its position in the data set, see {@link scheduling.ProblemInstance}.
  *
  * @author Rupam Tiwari, Utkarsha Pampatwar
  * @version 1.0
@@ -16,6 +17,11 @@ public class Team {
     private String name;
     private Location homeGround;
 
+    /**
+     * Hash code of the name and home ground
+     */
+    private final int hash;
+
     /**
      * Creates an instance of a team with the passed parameters
      *
@@ -25,6 +31,7 @@ public class Team {
     public Team(String name, Location homeGround) {
         this.homeGround = homeGround;
         this.name = name;
+        this.hash = Objects.hash(name, homeGround);
     }
 
     /**
@@ -56,8 +63,7 @@ public class Team {
         if (this == o) return true;
         if (!(o instanceof Team)) return false;
         Team team = (Team) o;
-        return Objects.equals(name, team.name) &&
-                Objects.equals(homeGround, team.homeGround);
+        return hash == team.hash && Objects.equals(name, team.name) && Objects.equals(homeGround, team.homeGround);
     }
 
     /**
@@ -67,7 +73,7 @@ public class Team {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(name, homeGround);
+        return hash;
     }
 
     /**
@@ -0,0 +1,68 @@
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.GeneColumns;
+import scheduling.Population;
+import scheduling.ProblemInstance;
+import scheduling.RandomSource;
+import scheduling.constraint.BatchEvaluator;
+import scheduling.pojo.Schedule;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class contains tests for checking that the batch evaluation over columns gives the same violations as the
+ * evaluation of each schedule
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class BatchEvaluatorTest {
+
+    /**
+     * This test case checks the violations of a whole population stored as columns, and that the genes are stored
+     * without loss
+     */
+    @Test
+    public void ColumnsTest() {
+        RandomSource random = new RandomSource(42);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        Population pop = new Population(300, problem, random);
+        // Repeated genes give duplicate fixtures and busy days
+        for (int i = 0; i < pop.size(); i += 3)
+            pop.get(i).setGene(1, pop.get(i).getGenes()[0]);
+
+        GeneColumns columns = GeneColumns.of(pop);
+        int[] violations = new int[pop.size()];
+        BatchEvaluator.forCurrentThread().evaluate(problem, columns, 0, pop.size(), violations);
+        int[] genes = new int[columns.getGeneCount()];
+        for (int i = 0; i < pop.size(); i++) {
+            assertEquals(pop.get(i).getViolations(), violations[i]);
+            columns.store(i, genes);
+            assertArrayEquals(pop.get(i).getGenes(), genes);
+        }
+    }
+
+    /**
+     * This test case checks that evaluating a population in blocks only evaluates the schedules which have changed,
+     * and gives them the same fitness as a full evaluation
+     */
+    @Test
+    public void PopulationTest() {
+        RandomSource random = new RandomSource(7);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        Population pop = new Population(BatchEvaluator.BLOCK_SIZE * 2 + 5, problem, random);
+        for (int i = 0; i < pop.size(); i += 2)
+            pop.get(i).evaluate();
+
+        assertEquals(pop.size() / 2, BatchEvaluator.forCurrentThread().evaluate(pop, 0, pop.size()));
+        for (int i = 0; i < pop.size(); i++) {
+            Schedule copy = pop.get(i).copy();
+            copy.computeFitness();
+            assertEquals(copy.getViolations(), pop.get(i).getViolations());
+            assertEquals(copy.getFitness(), pop.get(i).getFitness(), 0);
+        }
+    }
+}
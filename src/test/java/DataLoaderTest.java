@@ -0,0 +1,157 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import scheduling.Data;
+import scheduling.DataLoader;
+import scheduling.ProblemInstance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * This class contains tests for checking the data sets loaded from files
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class DataLoaderTest {
+
+    /**
+     * Directory of the files of a test
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * This test case checks the teams, calendar and weather of a data set whose forecast is issued twice, the second
+     * time with Windows line endings, and holds rows for days outside of the calendar
+     */
+    @Test
+    public void LoadTest() throws IOException {
+        DataLoader loader = loader("venue\nLords\n# Neutral ground\nEden Gardens\nNewlands\n",
+                "team,venue\nEngland,Lords\nIndia,Eden Gardens\nSouthAfrica,Newlands\nBangladesh,Eden Gardens\n");
+        SimpleDateFormat format = (SimpleDateFormat) Data.dateFormat.clone();
+        Calendar day = new Calendar.Builder().setDate(2019, Calendar.MAY, 30).build();
+        try (PrintWriter calendar = new PrintWriter(loader.getCalendarFile().toFile());
+             PrintWriter forecast = new PrintWriter(loader.getForecastFile().toFile())) {
+            calendar.print("date\n");
+            forecast.print("date,venue,rain\n");
+            for (int i = 0; i < 1000; i++) {
+                String date = format.format(day.getTime());
+                calendar.print(date + "\n");
+                for (int venue = 0; venue < 3; venue++) {
+                    forecast.print(date + "," + venueName(venue) + ",100\n");
+                    forecast.print(date + " , " + venueName(venue) + " , " + rain(i, venue) + "\r\n");
+                }
+                day.add(Calendar.DAY_OF_YEAR, 1);
+            }
+            forecast.print(format.format(day.getTime()) + ",Lords,100\n");
+        }
+
+        ProblemInstance problem = loader.load().getInstance();
+        assertEquals(4, problem.getTeamCount());
+        assertEquals(1000, problem.getDayCount());
+        assertArrayEquals(new int[]{0, 1, 2, 1}, problem.getHomeGroundIds());
+        assertEquals(6001, loader.getForecastRows());
+        assertEquals(1, loader.getIgnoredRows());
+        for (int i = 0; i < 1000; i++)
+            for (int venue = 0; venue < 3; venue++)
+                assertEquals(rain(i, venue), problem.getWeatherMatrix()[i * 3 + venue]);
+    }
+
+    /**
+     * This test case checks that a data set without a forecast file has good weather everywhere
+     */
+    @Test
+    public void NoForecastTest() throws IOException {
+        DataLoader loader = loader("venue\nLords\nNewlands\n", "team,venue\nEngland,Lords\nSouthAfrica,Newlands\n");
+        Files.write(loader.getCalendarFile(), "date\n05/30/2019\n06/02/2019\n".getBytes());
+        loader.setForecastFile(null);
+
+        ProblemInstance problem = loader.load().getInstance();
+        assertEquals(4, problem.getDayCount());
+        assertArrayEquals(new int[8], problem.getWeatherMatrix());
+    }
+
+    /**
+     * This test case checks that an invalid file is reported with its line
+     */
+    @Test
+    public void InvalidFileTest() throws IOException {
+        DataLoader loader = loader("venue\nLords\n", "team,venue\nEngland,Lords\n\nIndia,Eden Gardens\n");
+        Files.write(loader.getCalendarFile(), "date\n05/30/2019\n".getBytes());
+        try {
+            loader.load();
+            fail("The unknown venue should be reported");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().endsWith("teams.csv:4: Unknown venue: Eden Gardens"));
+        }
+    }
+
+    /**
+     * This test case checks that a date listed twice in the calendar is reported, as it would be drawn twice as
+     * often as the other days
+     */
+    @Test
+    public void DuplicateDateTest() throws IOException {
+        DataLoader loader = loader("venue\nLords\n", "team,venue\nEngland,Lords\n");
+        Files.write(loader.getCalendarFile(), "date\n06/02/2019\n05/30/2019\n06/01/2019\n06/02/2019\n".getBytes());
+        try {
+            loader.load();
+            fail("The duplicate date should be reported");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().endsWith("calendar.csv:5: Duplicate date: 06/02/2019"));
+        }
+    }
+
+    /**
+     * Creates a loader of files in the temporary folder, with the venues and teams files written
+     *
+     * @param venues Content of the venues file
+     * @param teams  Content of the teams file
+     * @return The loader
+     */
+    private DataLoader loader(String venues, String teams) throws IOException {
+        File root = folder.getRoot();
+        DataLoader loader = new DataLoader();
+        loader.setVenuesFile(new File(root, "venues.csv").toPath());
+        loader.setTeamsFile(new File(root, "teams.csv").toPath());
+        loader.setCalendarFile(new File(root, "calendar.csv").toPath());
+        loader.setForecastFile(new File(root, "forecast.csv").toPath());
+        Files.write(loader.getVenuesFile(), venues.getBytes());
+        Files.write(loader.getTeamsFile(), teams.getBytes());
+        return loader;
+    }
+
+    /**
+     * Gets the name of a venue of the first test
+     *
+     * @param venue Id of the venue
+     * @return The name
+     */
+    private static String venueName(int venue) {
+        return new String[]{"Lords", "Eden Gardens", "Newlands"}[venue];
+    }
+
+    /**
+     * Gets the probability of rain of the second forecast of the first test
+     *
+     * @param day   Day index
+     * @param venue Id of the venue
+     * @return The probability of rain
+     */
+    private static int rain(int day, int venue) {
+        return (day * 7 + venue * 13) % 101;
+    }
+}
@@ -0,0 +1,71 @@
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.ProblemInstance;
+import scheduling.RandomSource;
+import scheduling.constraint.IncrementalEvaluator;
+import scheduling.pojo.Schedule;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class contains tests for checking that the incremental evaluation gives the same violations as a full one
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class IncrementalEvaluatorTest {
+
+    /**
+     * This test case checks every single-gene move against a full evaluation of a copy of the schedule
+     */
+    @Test
+    public void MoveTest() {
+        RandomSource random = new RandomSource(42);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        Schedule schedule = new Schedule(problem, random);
+        IncrementalEvaluator evaluator = IncrementalEvaluator.forCurrentThread();
+
+        evaluator.attach(schedule);
+        assertEquals(schedule.copy().computeFitness(), 1.0 / (1 + evaluator.getViolations()), 0);
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(schedule.size());
+            // Half of the moves copy another gene, so that duplicate fixtures and busy days are also covered
+            int gene = i % 2 == 0 ? problem.randomGene(random) : schedule.getGenes()[random.nextInt(schedule.size())];
+            int before = evaluator.getViolations();
+            int delta = evaluator.delta(index, gene);
+            assertEquals(before, evaluator.getViolations());
+
+            evaluator.setGene(index, gene);
+            assertEquals(before + delta, evaluator.getViolations());
+            Schedule copy = schedule.copy();
+            copy.computeFitness();
+            assertEquals(copy.getViolations(), evaluator.getViolations());
+        }
+        int violations = evaluator.getViolations();
+        evaluator.detach();
+        assertEquals(violations, schedule.getViolations());
+    }
+
+    /**
+     * This test case checks that the counters are cleared when a schedule is detached, so that the next schedule
+     * starts from scratch
+     */
+    @Test
+    public void ReattachTest() {
+        RandomSource random = new RandomSource(7);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        IncrementalEvaluator evaluator = IncrementalEvaluator.forCurrentThread();
+
+        for (int i = 0; i < 20; i++) {
+            Schedule schedule = new Schedule(problem, random);
+            evaluator.attach(schedule);
+            evaluator.setGene(0, problem.randomGene(random));
+            evaluator.detach();
+            Schedule copy = schedule.copy();
+            copy.computeFitness();
+            assertEquals(copy.getViolations(), schedule.getViolations());
+        }
+    }
+}
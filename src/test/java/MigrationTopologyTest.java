@@ -0,0 +1,74 @@
+import org.junit.Test;
+import scheduling.MigrationTopology;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * This class contains tests for checking the islands connected by each migration topology
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class MigrationTopologyTest {
+
+    /**
+     * Lists the connections of a topology
+     *
+     * @param topology The topology
+     * @param islands  Total number of islands
+     * @return For each island sending migrants, whether each island receives them
+     */
+    private static boolean[][] connections(MigrationTopology topology, int islands) {
+        boolean[][] connections = new boolean[islands][islands];
+        for (int from = 0; from < islands; from++)
+            for (int to = 0; to < islands; to++)
+                connections[from][to] = topology.connects(from, to, islands);
+        return connections;
+    }
+
+    /**
+     * This test case checks that each island of a ring sends its migrants to the next one only, the last one to the
+     * first one
+     */
+    @Test
+    public void RingTest() {
+        assertArrayEquals(new boolean[][]{
+                {false, true, false, false},
+                {false, false, true, false},
+                {false, false, false, true},
+                {true, false, false, false}}, connections(MigrationTopology.RING, 4));
+        assertArrayEquals(new boolean[][]{{false, true}, {true, false}}, connections(MigrationTopology.RING, 2));
+        assertFalse(MigrationTopology.RING.connects(0, 0, 1));
+    }
+
+    /**
+     * This test case checks that the first island of a star exchanges migrants with all the others, which are not
+     * connected to each other
+     */
+    @Test
+    public void StarTest() {
+        assertArrayEquals(new boolean[][]{
+                {false, true, true, true},
+                {true, false, false, false},
+                {true, false, false, false},
+                {true, false, false, false}}, connections(MigrationTopology.STAR, 4));
+        assertFalse(MigrationTopology.STAR.connects(0, 0, 1));
+    }
+
+    /**
+     * This test case checks that each island of a fully connected topology sends its migrants to all the others, but
+     * not to itself
+     */
+    @Test
+    public void FullyConnectedTest() {
+        assertArrayEquals(new boolean[][]{
+                {false, true, true, true},
+                {true, false, true, true},
+                {true, true, false, true},
+                {true, true, true, false}}, connections(MigrationTopology.FULLY_CONNECTED, 4));
+        assertFalse(MigrationTopology.FULLY_CONNECTED.connects(0, 0, 1));
+    }
+}
@@ -0,0 +1,72 @@
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.OffHeapPopulation;
+import scheduling.ProblemInstance;
+import scheduling.RandomSource;
+import scheduling.ReplacementStrategy;
+import scheduling.SolverConfig;
+import scheduling.pojo.Schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class contains tests for checking the genetic operators of a population stored off the heap
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class OffHeapPopulationTest {
+
+    /**
+     * This test case checks that the stored violations stay those of the genes across generations, and that the best
+     * schedule never gets worse when the best schedules survive
+     */
+    @Test
+    public void EvolveTest() {
+        RandomSource random = new RandomSource(42);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        SolverConfig config = new SolverConfig();
+        config.setReplacement(new ReplacementStrategy(ReplacementStrategy.Mode.ELITIST, 2));
+        OffHeapPopulation pop = new OffHeapPopulation(problem, 100);
+        pop.fill(random);
+
+        int best = pop.getViolations(pop.getFittest());
+        for (int generation = 0; generation < 5; generation++) {
+            pop.evolve(config, random);
+            assertTrue(pop.getViolations(pop.getFittest()) <= best);
+            best = pop.getViolations(pop.getFittest());
+        }
+        for (int i = 0; i < pop.size(); i++) {
+            Schedule copy = pop.toSchedule(i).copy();
+            copy.computeFitness();
+            assertEquals(pop.getViolations(i), copy.getViolations());
+        }
+    }
+
+    /**
+     * This test case checks that the two children of a crossover share the genes of their parents
+     */
+    @Test
+    public void CrossoverTest() {
+        RandomSource random = new RandomSource(7);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        OffHeapPopulation pop = new OffHeapPopulation(problem, 4);
+        pop.fill(random);
+        Schedule parent1 = pop.toSchedule(0);
+        Schedule parent2 = pop.toSchedule(1);
+
+        pop.crossover(0, 1, 2, 3, random);
+        pop.evaluate(2);
+        pop.evaluate(3);
+        pop.swap();
+        for (int i = 0; i < parent1.size(); i++) {
+            int gene1 = pop.getGene(2, i);
+            int gene2 = pop.getGene(3, i);
+            assertTrue((gene1 == parent2.getGenes()[i] && gene2 == parent1.getGenes()[i])
+                    || (gene1 == parent1.getGenes()[i] && gene2 == parent2.getGenes()[i]));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.Population;
+import scheduling.RandomSource;
+import scheduling.pojo.Schedule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class contains tests for checking the ranking of the schedules of a population
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class PopulationTest {
+
+    /**
+     * This test case checks that sorting orders the schedules by violations, keeps the order of equally fit schedules,
+     * and agrees with the fittest and least fit schedules found by scanning
+     */
+    @Test
+    public void SortTest() {
+        RandomSource random = new RandomSource(42);
+        Data data = new Data(random.split());
+        Population pop = new Population(200, data, random);
+        Schedule fittest = pop.getFittest();
+        Schedule leastFit = pop.getLeastFit();
+        List<Schedule> before = pop.getSchedules();
+
+        pop.sortByFitness();
+        assertSame(fittest, pop.get(0));
+        assertSame(leastFit, pop.get(pop.size() - 1));
+        for (int i = 1; i < pop.size(); i++) {
+            Schedule previous = pop.get(i - 1);
+            Schedule current = pop.get(i);
+            assertTrue(previous.getViolations() <= current.getViolations());
+            if (previous.getViolations() == current.getViolations())
+                assertTrue(before.indexOf(previous) < before.indexOf(current));
+        }
+    }
+
+    /**
+     * This test case checks that migrants only replace the worst schedules, and only if they are fitter
+     */
+    @Test
+    public void AdmitTest() {
+        RandomSource random = new RandomSource(42);
+        Data data = new Data(random.split());
+        Population pop = new Population(50, data, random);
+        Population source = new Population(50, data, random);
+        List<Integer> expected = new ArrayList<>();
+        for (Schedule s : pop.getSchedules())
+            expected.add(s.getViolations());
+        List<Schedule> migrants = source.getSchedules().subList(0, 5);
+        for (Schedule s : migrants)
+            expected.add(s.getViolations());
+        Collections.sort(expected);
+
+        pop.admit(migrants);
+        List<Integer> actual = new ArrayList<>();
+        for (Schedule s : pop.getSchedules())
+            actual.add(s.getViolations());
+        Collections.sort(actual);
+        assertEquals(expected.subList(0, pop.size()), actual);
+    }
+}
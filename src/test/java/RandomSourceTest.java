@@ -0,0 +1,51 @@
+
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.Population;
+import scheduling.RandomSource;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * This class contains tests for checking that seeded runs are reproducible
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class RandomSourceTest {
+
+    /**
+     * This test case checks that the same seed gives the same weather and the same population
+     */
+    @Test
+    public void SameSeedTest() {
+        RandomSource random1 = new RandomSource(42);
+        RandomSource random2 = new RandomSource(42);
+        Data data1 = new Data(random1.split());
+        Data data2 = new Data(random2.split());
+        Population pop1 = new Population(20, data1, random1);
+        Population pop2 = new Population(20, data2, random2);
+
+        assertArrayEquals(data1.getInstance().getWeatherMatrix(), data2.getInstance().getWeatherMatrix());
+        for (int i = 0; i < pop1.size(); i++)
+            assertArrayEquals(pop1.getSchedules().get(i).getGenes(), pop2.getSchedules().get(i).getGenes());
+    }
+
+    /**
+     * This test case checks that the streams split from one source are different
+     */
+    @Test
+    public void SplitTest() {
+        RandomSource random = new RandomSource(42);
+        Data data = new Data(random.split());
+        Population pop1 = new Population(1, data, random.split());
+        Population pop2 = new Population(1, data, random.split());
+
+        assertFalse(Arrays.equals(pop1.getSchedules().get(0).getGenes(), pop2.getSchedules().get(0).getGenes()));
+    }
+}
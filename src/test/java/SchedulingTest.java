@@ -2,7 +2,9 @@
 import org.junit.Before;
 import org.junit.Test;
 import scheduling.Data;
+import scheduling.Gene;
 import scheduling.Population;
+import scheduling.ProblemInstance;
 import scheduling.pojo.Location;
 import scheduling.pojo.Match;
 import scheduling.pojo.Schedule;
@@ -11,10 +13,12 @@ import scheduling.pojo.Team;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 /**
  * This class contains test for checking fitness test
@@ -101,7 +105,6 @@ public class SchedulingTest {
         scheduleList.add(new Schedule());
         Schedule s1 = scheduleList.get(0);
         s1.setData(data);
-        s1.setWeatherIndex(data.getWeather());
 
         Location location1 = data.getLocationList().get(0);
         Location location2 = data.getLocationList().get(1);
@@ -147,7 +150,6 @@ public class SchedulingTest {
         scheduleList.add(new Schedule());
         Schedule s1 = scheduleList.get(0);
         s1.setData(data);
-        s1.setWeatherIndex(data.getWeather());
 
         Location location1 = data.getLocationList().get(0);
         Location location2 = data.getLocationList().get(1);
@@ -194,7 +196,6 @@ public class SchedulingTest {
         scheduleList.add(new Schedule());
         Schedule s1 = scheduleList.get(0);
         s1.setData(data);
-        s1.setWeatherIndex(data.getWeather());
 
         Location location1 = data.getLocationList().get(0);
         Location location2 = data.getLocationList().get(1);
@@ -230,6 +231,45 @@ public class SchedulingTest {
         assertEquals(ex, s1.computeFitness(), .001);
     }
 
+    /**
+     * This test case tests the fitness function for a fixture played on two consecutive days: each of the two teams
+     * playing on both days is a conflict, so a return match on the next day counts twice
+     */
+    @Test
+    public void ConsecutiveDaysOverlapTest() {
+        Population testPop = new Population(10, data, false);
+        ArrayList<Schedule> scheduleList = testPop.getSchedules();
+        scheduleList.add(new Schedule());
+        Schedule s1 = scheduleList.get(0);
+        s1.setData(data);
+
+        Location location1 = data.getLocationList().get(0);
+        Location location2 = data.getLocationList().get(1);
+        Location location3 = data.getLocationList().get(2);
+
+        Team team1 = data.getTeamList().get(0);
+        Team team2 = data.getTeamList().get(1);
+        Team team3 = data.getTeamList().get(2);
+
+        Match f1 = new Match(data.getDates().get(0), team1, team2, location1);
+        Match f2 = new Match(data.getDates().get(1), team2, team1, location2);
+        Match f3 = new Match(data.getDates().get(3), team1, team3, location1);
+        Match f4 = new Match(data.getDates().get(5), team3, team1, location3);
+        Match f5 = new Match(data.getDates().get(7), team2, team3, location2);
+        Match f6 = new Match(data.getDates().get(9), team3, team2, location3);
+
+        s1.getMatchList().add(f1);
+        s1.getMatchList().add(f2);
+        s1.getMatchList().add(f3);
+        s1.getMatchList().add(f4);
+        s1.getMatchList().add(f5);
+        s1.getMatchList().add(f6);
+
+        int expected = 2;
+        double ex = (double) 1 / (1 + expected);
+        assertEquals(ex, s1.computeFitness(), .001);
+    }
+
     /**
      * This test case tests the fitness function for conflicts due to a team playing more(less) than 2 matches with each team
      */
@@ -240,7 +280,6 @@ public class SchedulingTest {
         scheduleList.add(new Schedule());
         Schedule s1 = scheduleList.get(0);
         s1.setData(data);
-        s1.setWeatherIndex(data.getWeather());
 
         Location location1 = data.getLocationList().get(0);
         Location location2 = data.getLocationList().get(1);
@@ -286,7 +325,6 @@ public class SchedulingTest {
         scheduleList.add(new Schedule());
         Schedule s1 = scheduleList.get(0);
         s1.setData(data);
-        s1.setWeatherIndex(data.getWeather());
 
         Location location1 = data.getLocationList().get(0);
         Location location2 = data.getLocationList().get(1);
@@ -321,4 +359,191 @@ public class SchedulingTest {
         double ex = (double) 1 / (1 + expected);
         assertEquals(ex, s1.computeFitness(), .001);
     }
+
+    /**
+     * This test case tests the fitness function for conflicts due to matches scheduled on days with bad weather
+     */
+    @Test
+    public void FitnessTest6() {
+        Population testPop = new Population(10, data, false);
+        ArrayList<Schedule> scheduleList = testPop.getSchedules();
+        scheduleList.add(new Schedule());
+        Schedule s1 = scheduleList.get(0);
+
+        Location location1 = data.getLocationList().get(0);
+        Location location2 = data.getLocationList().get(1);
+        Location location3 = data.getLocationList().get(2);
+
+        Team team1 = data.getTeamList().get(0);
+        Team team2 = data.getTeamList().get(1);
+        Team team3 = data.getTeamList().get(2);
+
+        Date date1 = data.getDates().get(0);
+        Date date2 = data.getDates().get(2);
+        Date date3 = data.getDates().get(4);
+        Date date4 = data.getDates().get(6);
+        Date date5 = data.getDates().get(8);
+        Date date6 = data.getDates().get(10);
+
+        data.getWeather().get(Data.dateFormat.format(date1)).put(location1, 71);
+        data.getWeather().get(Data.dateFormat.format(date2)).put(location2, 90);
+        data.getWeather().get(Data.dateFormat.format(date4)).put(location2, 70);
+        s1.setData(data);
+
+        Match f1 = new Match(date1, team1, team2, location1);
+        Match f2 = new Match(date2, team1, team3, location1);
+        Match f3 = new Match(date3, team2, team1, location2);
+        Match f4 = new Match(date4, team2, team3, location2);
+        Match f5 = new Match(date5, team3, team2, location3);
+        Match f6 = new Match(date6, team3, team1, location3);
+
+        s1.getMatchList().add(f1);
+        s1.getMatchList().add(f2);
+        s1.getMatchList().add(f3);
+        s1.getMatchList().add(f4);
+        s1.getMatchList().add(f5);
+        s1.getMatchList().add(f6);
+
+        int expected = 1;
+        double ex = (double) 1 / (1 + expected);
+        assertEquals(ex, s1.computeFitness(), .001);
+    }
+
+    /**
+     * This test case tests the fitness function for conflicts due to the same match being scheduled more than once
+     */
+    @Test
+    public void FitnessTest7() {
+        Population testPop = new Population(10, data, false);
+        ArrayList<Schedule> scheduleList = testPop.getSchedules();
+        scheduleList.add(new Schedule());
+        Schedule s1 = scheduleList.get(0);
+        s1.setData(data);
+
+        Location location1 = data.getLocationList().get(0);
+        Location location2 = data.getLocationList().get(1);
+        Location location3 = data.getLocationList().get(2);
+
+        Team team1 = data.getTeamList().get(0);
+        Team team2 = data.getTeamList().get(1);
+        Team team3 = data.getTeamList().get(2);
+
+        Date date1 = data.getDates().get(0);
+        Date date2 = data.getDates().get(2);
+        Date date3 = data.getDates().get(4);
+        Date date4 = data.getDates().get(6);
+        Date date5 = data.getDates().get(8);
+        Date date6 = data.getDates().get(10);
+
+        Match f1 = new Match(date1, team1, team2, location1);
+        Match f2 = new Match(date2, team1, team2, location1);
+        Match f3 = new Match(date3, team1, team2, location2);
+        Match f4 = new Match(date4, team2, team3, location2);
+        Match f5 = new Match(date5, team3, team2, location3);
+        Match f6 = new Match(date6, team3, team1, location3);
+
+        s1.getMatchList().add(f1);
+        s1.getMatchList().add(f2);
+        s1.getMatchList().add(f3);
+        s1.getMatchList().add(f4);
+        s1.getMatchList().add(f5);
+        s1.getMatchList().add(f6);
+
+        // 3 pairs of same matches, 2 teams with wrong number of matches and 2 teams with wrong number of home matches
+        int expected = 7;
+        double ex = (double) 1 / (1 + expected);
+        assertEquals(ex, s1.computeFitness(), .001);
+    }
+
+    /**
+     * This test case checks that the ids of the teams and locations in a gene are their positions in the data set,
+     * whatever the other data sets created before
+     */
+    @Test
+    public void IdsTest() {
+        Data other = new Data();
+        other.getTeamList().clear();
+        other.getTeamList().add(new Team("PakistanTeam", new Location("Pakistan")));
+        other.getTeamList().add(new Team("EnglandTeam", new Location("England")));
+        other.getLocationList().clear();
+        other.getLocationList().addAll(Arrays.asList(new Location("Pakistan"), new Location("England")));
+        other.getDates().clear();
+        other.getDates().add(data.getDates().get(0));
+
+        Match match = new Match(data.getDates().get(0), data.getTeamList().get(0), data.getTeamList().get(2),
+                data.getLocationList().get(0));
+        int gene = other.getInstance().encode(match);
+        assertEquals(1, Gene.home(gene));
+        assertEquals(0, Gene.away(gene));
+        assertEquals(1, Gene.venue(gene));
+        gene = data.getInstance().encode(match);
+        assertEquals(0, Gene.home(gene));
+        assertEquals(2, Gene.away(gene));
+        assertEquals(0, Gene.venue(gene));
+    }
+
+    /**
+     * This test case checks that a team whose home ground is not a location of the data set is rejected
+     */
+    @Test
+    public void UnknownHomeGroundTest() {
+        data.getTeamList().add(new Team("BangladeshTeam", new Location("Bangladesh")));
+        try {
+            ProblemInstance problem = data.getInstance();
+            fail("The home ground of BangladeshTeam is not a location: " + problem);
+        } catch (IllegalStateException ex) {
+            assertEquals("The home ground of team BangladeshTeam is not a location of the data set: Bangladesh",
+                    ex.getMessage());
+        }
+    }
+
+    /**
+     * This test case checks that a match of the last day, teams and venue of a data set at the limits of the gene
+     * encoding (4096 days, 64 teams and 256 venues) is encoded and decoded without losing a field, and that one more
+     * team is rejected
+     */
+    @Test
+    public void GeneLimitsTest() {
+        data.getLocationList().clear();
+        for (int i = 0; i < Gene.MAX_VENUES; i++)
+            data.getLocationList().add(new Location("Venue" + i));
+        data.getTeamList().clear();
+        for (int i = 0; i < Gene.MAX_TEAMS; i++)
+            data.getTeamList().add(new Team("Team" + i, data.getLocationList().get(i)));
+        Calendar day = new Calendar.Builder().setDate(2019, Calendar.MAY, 30).build();
+        data.getDates().clear();
+        data.getDates().add(day.getTime());
+        day.add(Calendar.DAY_OF_YEAR, Gene.MAX_DAYS - 1);
+        data.getDates().add(day.getTime());
+
+        ProblemInstance problem = data.getInstance();
+        assertEquals(Gene.MAX_DAYS, problem.getDayCount());
+        int gene = Gene.of(Gene.MAX_DAYS - 1, Gene.MAX_TEAMS - 1, Gene.MAX_TEAMS - 2, Gene.MAX_VENUES - 1);
+        assertEquals(Gene.MAX_DAYS - 1, Gene.day(gene));
+        assertEquals(Gene.MAX_TEAMS - 1, Gene.home(gene));
+        assertEquals(Gene.MAX_TEAMS - 2, Gene.away(gene));
+        assertEquals(Gene.MAX_VENUES - 1, Gene.venue(gene));
+
+        Match match = problem.decode(gene);
+        assertEquals(day.getTime(), match.getDate());
+        assertEquals(data.getTeamList().get(Gene.MAX_TEAMS - 1), match.getTeam1());
+        assertEquals(data.getTeamList().get(Gene.MAX_TEAMS - 2), match.getTeam2());
+        assertEquals(data.getLocationList().get(Gene.MAX_VENUES - 1), match.getLocation());
+        assertEquals(gene, problem.encode(match));
+        assertEquals(Gene.of(0, 0, 1, 0), problem.encode(problem.decode(Gene.of(0, 0, 1, 0))));
+
+        Data more = new Data();
+        more.getLocationList().clear();
+        more.getLocationList().addAll(data.getLocationList());
+        more.getTeamList().clear();
+        more.getTeamList().addAll(data.getTeamList());
+        more.getTeamList().add(new Team("Team" + Gene.MAX_TEAMS, data.getLocationList().get(0)));
+        more.getDates().clear();
+        more.getDates().addAll(data.getDates());
+        try {
+            problem = more.getInstance();
+            fail("A team more than " + Gene.MAX_TEAMS + " cannot be encoded: " + problem);
+        } catch (IllegalStateException expected) {
+        }
+    }
 }
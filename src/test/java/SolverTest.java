@@ -0,0 +1,166 @@
+import org.junit.Test;
+import scheduling.Data;
+import scheduling.GenerationStatistics;
+import scheduling.ProblemInstance;
+import scheduling.RandomSource;
+import scheduling.Solver;
+import scheduling.SolverConfig;
+import scheduling.SolverHandle;
+import scheduling.TerminationPolicy;
+import scheduling.constraint.SameDayConstraint;
+import scheduling.pojo.Schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * This class contains tests for running the algorithm through the solver API
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class SolverTest {
+
+    /**
+     * Creates a small config which never reaches its target fitness
+     *
+     * @param maxGenerations Maximum number of generations, 0 for no limit
+     * @return The config
+     */
+    private static SolverConfig config(int maxGenerations) {
+        SolverConfig config = new SolverConfig();
+        config.setPopulationSize(200);
+        config.setColonySize(100);
+        config.setMigrationInterval(5);
+        config.setTermination(new TerminationPolicy(0, maxGenerations, 2, 0));
+        config.setSeed(42);
+        return config;
+    }
+
+    /**
+     * This test case checks that a run stops at the generation cap and publishes the statistics of each generation
+     */
+    @Test
+    public void MaxGenerationsTest() {
+        List<GenerationStatistics> published = new ArrayList<>();
+        SolverHandle handle = new Solver().solve(new Data(new RandomSource(42)).getInstance(), config(20), published::add);
+        Schedule best = handle.getResult().join();
+
+        assertNotNull(best);
+        assertEquals(TerminationPolicy.Reason.MAX_GENERATIONS, handle.getTerminationReason());
+        assertEquals(20, published.size());
+        long evaluations = 0;
+        for (int i = 0; i < published.size(); i++) {
+            assertEquals(i + 1, published.get(i).getGeneration());
+            assertTrue(published.get(i).getGenerationEvaluations() > 0);
+            evaluations += published.get(i).getGenerationEvaluations();
+            assertEquals(evaluations, published.get(i).getEvaluations());
+        }
+        GenerationStatistics last = published.get(published.size() - 1);
+        assertEquals(20, last.getGeneration());
+        assertEquals(best.getFitness(), last.getBestFitness(), 1e-9);
+        assertTrue(last.getWorstFitness() <= last.getMeanFitness() && last.getMeanFitness() <= last.getBestFitness());
+    }
+
+    /**
+     * This test case checks that a cancelled run completes with the best schedule found so far
+     */
+    @Test
+    public void CancelTest() {
+        SolverHandle handle = new Solver().solve(new Data(new RandomSource(42)).getInstance(), config(0), statistics -> {
+        });
+        handle.cancel();
+        Schedule best = handle.getResult().join();
+
+        assertNotNull(best);
+        assertEquals(TerminationPolicy.Reason.CANCELLED, handle.getTerminationReason());
+    }
+
+    /**
+     * This test case checks that a run stops with the reason of the limit it reaches: the target fitness, the time
+     * budget or the stagnation of the best schedule
+     */
+    @Test
+    public void ReasonTest() {
+        ProblemInstance problem = new Data(new RandomSource(42)).getInstance();
+        TerminationPolicy[] policies = {new TerminationPolicy(0, 100, 0, 0), new TerminationPolicy(50, 0, 2, 0),
+                new TerminationPolicy(60000, 0, 2, 3)};
+        TerminationPolicy.Reason[] reasons = {TerminationPolicy.Reason.TARGET_FITNESS,
+                TerminationPolicy.Reason.TIME_BUDGET, TerminationPolicy.Reason.STAGNATION};
+        for (int i = 0; i < policies.length; i++) {
+            SolverConfig config = config(0);
+            config.setTermination(policies[i]);
+            SolverHandle handle = new Solver().solve(problem, config, statistics -> {
+            });
+            assertNotNull(handle.getResult().join());
+            assertEquals(reasons[i], handle.getTerminationReason());
+        }
+    }
+
+    /**
+     * This test case checks that a seeded run, whose islands produce their offspring on the workers of the pool they
+     * run on, finds the same schedule with one worker as with several
+     */
+    @Test
+    public void PoolSizeTest() {
+        ProblemInstance problem = new Data(new RandomSource(42)).getInstance();
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            Schedule best1 = new Solver(single).solve(problem, config(10), statistics -> {
+            }).getResult().join();
+            Schedule best4 = new Solver(several).solve(problem, config(10), statistics -> {
+            }).getResult().join();
+            assertEquals(best1.getFitness(), best4.getFitness(), 1e-12);
+            assertArrayEquals(best1.getGenes(), best4.getGenes());
+        } finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+
+    /**
+     * This test case checks that the constraints of a problem instance are not changed by its data set, and that two
+     * runs over the same instance at the same time record their own statistics of the constraints
+     */
+    @Test
+    public void SharedProblemTest() {
+        Data data = new Data(new RandomSource(42));
+        ProblemInstance problem = data.getInstance();
+        data.getConstraints().add(new SameDayConstraint());
+        assertEquals(7, problem.getConstraints().getConstraints().size());
+        try {
+            problem.getConstraints().add(new SameDayConstraint());
+            fail("The constraints of a problem instance should be frozen");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        List<GenerationStatistics> published1 = new ArrayList<>();
+        List<GenerationStatistics> published2 = new ArrayList<>();
+        SolverConfig config1 = config(20);
+        SolverConfig config2 = config(10);
+        config1.setConstraintStatistics(true);
+        config2.setConstraintStatistics(true);
+        SolverHandle handle1 = new Solver().solve(problem, config1, published1::add);
+        SolverHandle handle2 = new Solver().solve(problem, config2, published2::add);
+        handle1.getResult().join();
+        handle2.getResult().join();
+
+        assertNotSame(handle1.getConstraintStatistics(), handle2.getConstraintStatistics());
+        // The initial populations are evaluated on top of the evaluations published
+        assertEquals(published1.get(published1.size() - 1).getEvaluations() + 200,
+                handle1.getConstraintStatistics().getEvaluations());
+        assertEquals(published2.get(published2.size() - 1).getEvaluations() + 200,
+                handle2.getConstraintStatistics().getEvaluations());
+    }
+}
@@ -0,0 +1,58 @@
+import org.junit.Test;
+import scheduling.TerminationPolicy;
+import scheduling.TerminationPolicy.Reason;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * This class contains tests for checking when a termination policy stops a run, and why
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class TerminationPolicyTest {
+
+    /**
+     * This test case checks that each limit stops the run with its own reason once it is reached, and not before
+     */
+    @Test
+    public void ReasonsTest() {
+        TerminationPolicy policy = new TerminationPolicy(1000, 50, 0.9, 10);
+        assertNull(policy.check(49, 999, 0.8, 9));
+        assertEquals(Reason.TARGET_FITNESS, policy.check(49, 999, 0.9, 9));
+        assertEquals(Reason.TIME_BUDGET, policy.check(49, 1000, 0.8, 9));
+        assertEquals(Reason.MAX_GENERATIONS, policy.check(50, 999, 0.8, 9));
+        assertEquals(Reason.STAGNATION, policy.check(49, 999, 0.8, 10));
+    }
+
+    /**
+     * This test case checks that when several limits are reached at once, the target fitness comes first, then the
+     * time budget, the generation cap and the stagnation
+     */
+    @Test
+    public void PrecedenceTest() {
+        TerminationPolicy policy = new TerminationPolicy(1000, 50, 0.9, 10);
+        assertEquals(Reason.TARGET_FITNESS, policy.check(50, 1000, 1, 10));
+        assertEquals(Reason.TIME_BUDGET, policy.check(50, 1000, 0.8, 10));
+        assertEquals(Reason.MAX_GENERATIONS, policy.check(50, 999, 0.8, 10));
+    }
+
+    /**
+     * This test case checks that the limits set to 0 never stop the run, and that negative limits are rejected
+     */
+    @Test
+    public void NoLimitTest() {
+        TerminationPolicy policy = new TerminationPolicy(0, 0, 2, 0);
+        assertNull(policy.check(Integer.MAX_VALUE, Long.MAX_VALUE, 1, Integer.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, policy.deadline(System.nanoTime()));
+        try {
+            new TerminationPolicy(0, -1, 1, 0);
+            fail("A negative generation cap should be rejected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
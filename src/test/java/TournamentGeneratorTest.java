@@ -0,0 +1,63 @@
+import org.junit.Test;
+import scheduling.Gene;
+import scheduling.ProblemInstance;
+import scheduling.TournamentGenerator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class contains tests for checking the synthetic tournaments
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class TournamentGeneratorTest {
+
+    /**
+     * This test case checks that the same parameters give the same tournament
+     */
+    @Test
+    public void SameSeedTest() {
+        TournamentGenerator generator = new TournamentGenerator();
+        generator.setTeams(8);
+        generator.setVenues(8);
+        ProblemInstance problem1 = generator.generate().getInstance();
+        ProblemInstance problem2 = generator.generate().getInstance();
+
+        assertEquals(8, problem1.getTeamCount());
+        assertEquals(65, problem1.getDayCount());
+        assertEquals(problem1.getDate(0), problem2.getDate(0));
+        assertArrayEquals(problem1.getWeatherMatrix(), problem2.getWeatherMatrix());
+    }
+
+    /**
+     * This test case checks that the teams without a ground of their own share the neutral venues, which then have
+     * to host the home matches of all of them
+     */
+    @Test
+    public void NeutralVenuesTest() {
+        TournamentGenerator generator = new TournamentGenerator();
+        generator.setTeams(6);
+        generator.setVenues(5);
+        generator.setNeutralVenues(1);
+        ProblemInstance problem = generator.generate().getInstance();
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 4}, problem.getHomeGroundIds());
+        assertArrayEquals(new int[]{5, 5, 5, 5, 10}, problem.getVenueLoads());
+    }
+
+    /**
+     * This test case checks that the default window of the largest tournament fits in a gene
+     */
+    @Test
+    public void LargestTest() {
+        TournamentGenerator generator = new TournamentGenerator();
+        generator.setTeams(Gene.MAX_TEAMS);
+        generator.setVenues(Gene.MAX_TEAMS);
+
+        assertEquals(Gene.MAX_DAYS, generator.generate().getInstance().getDayCount());
+    }
+}
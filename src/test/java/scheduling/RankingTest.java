@@ -0,0 +1,104 @@
+package scheduling;
+
+import org.junit.Test;
+import scheduling.pojo.Schedule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class contains tests for checking the partial rankings of a population against a full sort
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class RankingTest {
+
+    /**
+     * Sorts the positions of the schedules of a population by violations, then by position
+     *
+     * @param pop The population
+     * @return The positions of the schedules, the fittest first
+     */
+    private static List<Integer> fullSort(Population pop) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < pop.size(); i++)
+            order.add(i);
+        order.sort(Comparator.comparingInt((Integer i) -> pop.get(i).getViolations()).thenComparingInt(i -> i));
+        return order;
+    }
+
+    /**
+     * This test case checks that separating the survivors of a steady-state generation keeps the exact ranks of the
+     * candidates for selection, and puts the same schedules as a full sort on each side of the survivors
+     */
+    @Test
+    public void KeptTest() {
+        RandomSource random = new RandomSource(42);
+        Population pop = new Population(300, new Data(random.split()), random);
+        List<Integer> expected = fullSort(pop);
+
+        Ranking ranking = pop.rankTop(10, 250);
+        assertEquals(10, ranking.getSortedCount());
+        HashSet<Integer> kept = new HashSet<>();
+        for (int rank = 0; rank < 250; rank++) {
+            if (rank < 10)
+                assertEquals((int) expected.get(rank), ranking.index(rank));
+            kept.add(ranking.index(rank));
+        }
+        assertEquals(new HashSet<>(expected.subList(0, 250)), kept);
+    }
+
+    /**
+     * This test case checks that the exact ranks of a population viewing the middle of an arena are those of a full
+     * sort, for any number of ranks, and once its schedules change
+     */
+    @Test
+    public void TopTest() {
+        RandomSource random = new RandomSource(42);
+        ProblemInstance problem = new Data(random.split()).getInstance();
+        Schedule[] arena = new Schedule[500];
+        Population pop = new Population(arena, 100, 300);
+        pop.fill(problem, random);
+
+        for (int k : new int[]{0, 1, 7, 150, 300}) {
+            List<Integer> expected = fullSort(pop);
+            Ranking ranking = pop.rankTop(k);
+            assertEquals(k, ranking.getSortedCount());
+            for (int rank = 0; rank < k; rank++)
+                assertEquals((int) expected.get(rank), ranking.index(rank));
+            pop.set(rank(expected, k), new Schedule(problem, random));
+        }
+    }
+
+    /**
+     * This test case checks that a population too large to be sorted serially is ranked like a full sort
+     */
+    @Test
+    public void ParallelTest() {
+        RandomSource random = new RandomSource(42);
+        Population pop = new Population(Ranking.PARALLEL_THRESHOLD + 100, new Data(random.split()), random);
+        List<Integer> expected = fullSort(pop);
+
+        Ranking ranking = pop.rankTop(pop.size());
+        for (int rank = 0; rank < pop.size(); rank++)
+            assertEquals((int) expected.get(rank), ranking.index(rank));
+    }
+
+    /**
+     * Gets the position of the schedule of a rank, or of the last one if the rank is the size of the population
+     *
+     * @param order The positions of the schedules, the fittest first
+     * @param rank  The rank
+     * @return Position of the schedule
+     */
+    private static int rank(List<Integer> order, int rank) {
+        return order.get(Math.min(rank, order.size() - 1));
+    }
+}
@@ -0,0 +1,121 @@
+package scheduling;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class contains tests for checking the parents picked by each selection method
+ *
+ * @author Rupam Tiwari, Utkarsha Pampatwar
+ * @version 1.0
+ * @Date 04/18/2019
+ */
+
+public class SelectionTest {
+
+    /**
+     * Number of schedules taking part in the selection
+     */
+    private static final int CANDIDATES = 10;
+
+    private Population pop;
+    private Ranking ranking;
+    private RandomSource random;
+
+    /**
+     * Sets up an evaluated population of 100 schedules ranked for the selection
+     */
+    @Before
+    public void setUp() {
+        random = new RandomSource(42);
+        pop = new Population(100, new Data(random.split()), random.split());
+        pop.evaluate();
+        ranking = pop.rankTop(CANDIDATES, CANDIDATES);
+    }
+
+    /**
+     * Counts how many times each schedule is picked as a parent
+     *
+     * @param selection The selection
+     * @param parents   Number of parents picked
+     * @return Number of times each position of the population is picked
+     */
+    private Map<Integer, Integer> pick(Selection selection, int parents) {
+        int[] picked = new int[parents];
+        selection.select(picked, random);
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int index : picked)
+            counts.merge(index, 1, Integer::sum);
+        return counts;
+    }
+
+    /**
+     * This test case checks that a tournament only picks candidates, and that a tournament much larger than the
+     * candidates always picks one of the fittest
+     */
+    @Test
+    public void TournamentTest() {
+        Map<Integer, Integer> counts = pick(new Selection(ranking, SelectionMethod.TOURNAMENT, 2, CANDIDATES), 1000);
+        for (int index : counts.keySet())
+            assertTrue(rankOf(index) < CANDIDATES);
+
+        counts = pick(new Selection(ranking, SelectionMethod.TOURNAMENT, 500, CANDIDATES), 1000);
+        for (int index : counts.keySet())
+            assertEquals(ranking.get(0).getFitness(), pop.get(index).getFitness(), 0);
+    }
+
+    /**
+     * This test case checks that rank selection picks each candidate in proportion to its weight: the number of
+     * candidates for the fittest, down to 1 for the last one
+     */
+    @Test
+    public void RankTest() {
+        int parents = 550000;
+        Map<Integer, Integer> counts = pick(new Selection(ranking, SelectionMethod.RANK, 2, CANDIDATES), parents);
+        assertEquals(CANDIDATES, counts.size());
+        for (int rank = 0; rank < CANDIDATES; rank++) {
+            double expected = (double) parents * (CANDIDATES - rank) / (CANDIDATES * (CANDIDATES + 1) / 2);
+            assertEquals(expected, counts.get(ranking.index(rank)), expected * 0.05);
+        }
+    }
+
+    /**
+     * This test case checks that stochastic universal sampling picks each candidate its expected number of times in
+     * proportion to its fitness, rounded down or up
+     */
+    @Test
+    public void StochasticUniversalTest() {
+        int parents = 1000;
+        double total = 0;
+        for (int rank = 0; rank < CANDIDATES; rank++)
+            total += ranking.get(rank).getFitness();
+
+        Map<Integer, Integer> counts = pick(new Selection(ranking, SelectionMethod.STOCHASTIC_UNIVERSAL, 2,
+                CANDIDATES), parents);
+        for (int rank = 0; rank < CANDIDATES; rank++) {
+            double expected = parents * ranking.get(rank).getFitness() / total;
+            int count = counts.getOrDefault(ranking.index(rank), 0);
+            assertTrue(count + " picks, " + expected + " expected", count >= Math.floor(expected) - 1e-9
+                    && count <= Math.ceil(expected) + 1e-9);
+        }
+    }
+
+    /**
+     * Gets the rank of a schedule of the population
+     *
+     * @param index Position of the schedule in the population
+     * @return Its rank, CANDIDATES if it is not a candidate
+     */
+    private int rankOf(int index) {
+        for (int rank = 0; rank < CANDIDATES; rank++)
+            if (ranking.index(rank) == index)
+                return rank;
+        return CANDIDATES;
+    }
+}